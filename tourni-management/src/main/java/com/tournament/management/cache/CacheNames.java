@@ -0,0 +1,20 @@
+package com.tournament.management.cache;
+
+/**
+ * Names of the caches used by the management service
+ */
+public class CacheNames {
+
+    public static final String POINTS_TABLE_BY_TOURNAMENT_ID = "pointsTableByTournamentId";
+    public static final String TEAMS_BY_TOURNAMENT_ID = "teamsByTournamentId";
+    public static final String TOURNAMENTS = "tournaments";
+
+    /*
+     * Not a Spring cache, names invalidations of the reference data for the other instances (see ReferenceDataCacheInvalidator)
+     */
+    public static final String REFERENCE_DATA = "referenceData";
+
+    private CacheNames() {
+        // Utility class
+    }
+}
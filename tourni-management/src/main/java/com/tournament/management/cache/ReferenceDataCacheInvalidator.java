@@ -0,0 +1,57 @@
+package com.tournament.management.cache;
+
+import com.tournament.management.entity.app.Team;
+import com.tournament.management.entity.app.TeamToTournamentMapping;
+import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.entity.app.TournamentType;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Drops every cached copy of the reference data: the second-level cache regions of tournaments, teams,
+ * tournament types and team mappings, the cached queries over them and the Spring and serialized response caches
+ * built from them. The serialized teams are dropped as well: their ETag is read from the database, so a listing
+ * read from the stale query cache right after a direct edit is stored under the new ETag.
+ *
+ * Hibernate keeps these caches in step with its own writes; edits made directly in the database have to be
+ * followed by an explicit invalidation (see AdminController), which is broadcast to the other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataCacheInvalidator {
+
+    private static final List<Class<?>> REFERENCE_ENTITIES = List.of(Tournament.class, Team.class, TournamentType.class, TeamToTournamentMapping.class);
+
+    private static final List<String> REFERENCE_CACHES = List.of(CacheNames.TOURNAMENTS, CacheNames.TEAMS_BY_TOURNAMENT_ID);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final CacheManager cacheManager;
+
+    private final SerializedResponseCache serializedResponseCache;
+
+    public void invalidate() {
+        org.hibernate.Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        REFERENCE_ENTITIES.forEach(secondLevelCache::evictEntityData);
+        // cached query results only hold ids, they would still list removed or miss added rows
+        secondLevelCache.evictQueryRegions();
+
+        for (String cacheName : REFERENCE_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.invalidate();
+            }
+            serializedResponseCache.evictAll(cacheName);
+        }
+
+        log.info("Invalidated cached reference data");
+    }
+}
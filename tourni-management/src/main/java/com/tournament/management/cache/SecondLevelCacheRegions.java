@@ -0,0 +1,27 @@
+package com.tournament.management.cache;
+
+import java.util.List;
+
+/**
+ * Names of the Hibernate second-level cache regions, see SecondLevelCacheConfig
+ */
+public class SecondLevelCacheRegions {
+
+    public static final String TOURNAMENT = "tournament";
+    public static final String TEAM = "team";
+    public static final String TOURNAMENT_TYPE = "tournamentType";
+    public static final String TEAM_TO_TOURNAMENT_MAPPING = "teamToTournamentMapping";
+
+    // Hibernate's default names for cached query results and the table timestamps they are checked against
+    public static final String QUERY_RESULTS = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    /*
+     * Regions bounded by tourni.cache.second-level, the update timestamps region is managed separately
+     */
+    public static final List<String> CONFIGURABLE_REGIONS = List.of(TOURNAMENT, TEAM, TOURNAMENT_TYPE, TEAM_TO_TOURNAMENT_MAPPING, QUERY_RESULTS);
+
+    private SecondLevelCacheRegions() {
+        // Utility class
+    }
+}
@@ -0,0 +1,30 @@
+package com.tournament.management.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Response body encoded once and written as is on every hit
+ */
+@Getter
+@AllArgsConstructor
+public class SerializedResponse {
+
+    private final String eTag;
+
+    private final byte[] json;
+
+    /*
+     * Gzip encoded json, null when compression is disabled or the body is too small to benefit
+     */
+    private final byte[] gzippedJson;
+
+    /*
+     * Cursor of the following page of a paged listing, null on the last page and for other responses
+     */
+    private final Long nextCursor;
+
+    public boolean hasGzippedJson() {
+        return gzippedJson != null;
+    }
+}
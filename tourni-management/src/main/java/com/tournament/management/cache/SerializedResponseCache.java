@@ -0,0 +1,134 @@
+package com.tournament.management.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tournament.management.dto.CommonApiResponse;
+import com.tournament.management.dto.KeysetPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the final JSON bytes of hot read endpoints per tournament, so hits skip both the
+ * object graph and Jackson. Entries are kept per ETag, a new version of the data is a new entry
+ * and older versions age out of the bounded cache (tourni.response-cache.maximum-size).
+ *
+ * Concurrent misses for one version share a single load. The load runs on the calling thread outside
+ * of any map lock, it reads the database and must not block requests for other tournaments.
+ */
+@Component
+@Slf4j
+public class SerializedResponseCache {
+
+    private final ObjectMapper objectMapper;
+
+    private final Cache<CacheKey, CompletableFuture<SerializedResponse>> serializedResponses;
+
+    private final boolean gzipEnabled;
+
+    private final int gzipMinSize;
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+                                   @Value("${tourni.response-cache.gzip.enabled:true}") boolean gzipEnabled,
+                                   @Value("${tourni.response-cache.gzip.min-size:1024}") int gzipMinSize,
+                                   @Value("${tourni.response-cache.maximum-size:1000}") long maximumSize,
+                                   MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.serializedResponses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, serializedResponses, "serializedResponses");
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinSize = gzipMinSize;
+    }
+
+    public SerializedResponse get(String cacheName, Long tournamentId, String eTag, Supplier<Object> responseBody) {
+        return get(new CacheKey(cacheName, tournamentId, eTag), () -> serialize(eTag, responseBody.get(), null));
+    }
+
+    /*
+     * A page of a listing, the page is only loaded on a miss and its next cursor is kept with the bytes
+     */
+    public SerializedResponse getPage(String cacheName, Long tournamentId, String eTag, Supplier<KeysetPage<?>> page) {
+        return get(new CacheKey(cacheName, tournamentId, eTag), () -> {
+            KeysetPage<?> keysetPage = page.get();
+            return serialize(eTag, new CommonApiResponse<>(keysetPage.getItems()), keysetPage.getNextCursor());
+        });
+    }
+
+    private SerializedResponse get(CacheKey cacheKey, Supplier<SerializedResponse> serializer) {
+        CompletableFuture<SerializedResponse> serializedResponse = serializedResponses.getIfPresent(cacheKey);
+        if (serializedResponse == null) {
+            // the first miss loads, concurrent misses for the same version wait for its result
+            CompletableFuture<SerializedResponse> loading = new CompletableFuture<>();
+            serializedResponse = serializedResponses.asMap().putIfAbsent(cacheKey, loading);
+            if (serializedResponse == null) {
+                return load(cacheKey, loading, serializer);
+            }
+        }
+
+        try {
+            return serializedResponse.join();
+        } catch (CompletionException e) {
+            // the waiting requests fail like the loading one did
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    private SerializedResponse load(CacheKey cacheKey, CompletableFuture<SerializedResponse> loading, Supplier<SerializedResponse> serializer) {
+        try {
+            SerializedResponse serializedResponse = serializer.get();
+            loading.complete(serializedResponse);
+            return serializedResponse;
+        } catch (RuntimeException | Error e) {
+            serializedResponses.asMap().remove(cacheKey, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void evict(String cacheName, Long tournamentId) {
+        serializedResponses.asMap().keySet().removeIf(cacheKey -> cacheKey.cacheName().equals(cacheName)
+                && cacheKey.tournamentId().equals(tournamentId));
+    }
+
+    public void evictAll(String cacheName) {
+        serializedResponses.asMap().keySet().removeIf(cacheKey -> cacheKey.cacheName().equals(cacheName));
+    }
+
+    private SerializedResponse serialize(String eTag, Object responseBody, Long nextCursor) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(responseBody);
+            byte[] gzippedJson = gzipEnabled && json.length >= gzipMinSize ? gzip(json) : null;
+            return new SerializedResponse(eTag, json, gzippedJson, nextCursor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize response body", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private record CacheKey(String cacheName, Long tournamentId, String eTag) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.tournament.management.cache;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.tournament.management.config.TourniCacheProperties;
+import com.tournament.management.events.MatchResultRecordedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single place where the tournament caches are invalidated after a write,
+ * covering both the object caches and the serialized response cache.
+ *
+ * Caches configured with stale-while-revalidate keep serving the previous value while it is
+ * reloaded in the background. If the reload does not finish within max-staleness the entry is dropped
+ * and readers load it themselves (one load per key, see CacheConfig).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TournamentCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    private final SerializedResponseCache serializedResponseCache;
+
+    private final TourniCacheProperties tourniCacheProperties;
+
+    @EventListener
+    public void onMatchResultRecorded(MatchResultRecordedEvent matchResultRecordedEvent) {
+        evictPointsTable(matchResultRecordedEvent.getTournamentId());
+    }
+
+    public void evictPointsTable(Long tournamentId) {
+        invalidate(CacheNames.POINTS_TABLE_BY_TOURNAMENT_ID, tournamentId);
+    }
+
+    public void invalidate(String cacheName, Long tournamentId) {
+        invalidateObjectCache(cacheName, tournamentId);
+        serializedResponseCache.evict(cacheName, tournamentId);
+
+        log.debug("Invalidated {} caches for tournament id: {}", cacheName, tournamentId);
+    }
+
+    private void invalidateObjectCache(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        TourniCacheProperties.CacheSpec cacheSpec = tourniCacheProperties.getCaches().get(cacheName);
+
+        if (cacheSpec != null && cacheSpec.isStaleWhileRevalidate()
+                && cache.getNativeCache() instanceof LoadingCache<?, ?> nativeCache) {
+            revalidate(cache, castLoadingCache(nativeCache), key, cacheSpec);
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    private void revalidate(Cache cache, LoadingCache<Object, Object> loadingCache, Object key, TourniCacheProperties.CacheSpec cacheSpec) {
+        if (loadingCache.getIfPresent(key) == null) {
+            return;
+        }
+
+        // a refresh already in flight may have read the data before this write, so it cannot be reused
+        if (loadingCache.policy().refreshes().containsKey(key)) {
+            cache.evict(key);
+            return;
+        }
+
+        loadingCache.refresh(key).copy()
+                .orTimeout(cacheSpec.getMaxStaleness().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, throwable) -> {
+                    if (throwable != null) {
+                        log.warn("Unable to revalidate {} for key {} within {}, evicting", cache.getName(), key, cacheSpec.getMaxStaleness(), throwable);
+                        cache.evict(key);
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static LoadingCache<Object, Object> castLoadingCache(LoadingCache<?, ?> loadingCache) {
+        return (LoadingCache<Object, Object>) loadingCache;
+    }
+}
@@ -0,0 +1,95 @@
+package com.tournament.management.cache.invalidation;
+
+import com.tournament.management.cache.CacheNames;
+import com.tournament.management.cache.ReferenceDataCacheInvalidator;
+import com.tournament.management.cache.TournamentCacheInvalidator;
+import com.tournament.management.events.MatchResultRecordedEvent;
+import com.tournament.management.standings.StandingsEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Tells the other instances about local writes and applies their invalidations locally.
+ * Local caches are invalidated by TournamentCacheInvalidator directly, messages that originate
+ * from this instance are ignored.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationBroadcaster {
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final CacheInvalidationTransport cacheInvalidationTransport;
+    private final TournamentCacheInvalidator tournamentCacheInvalidator;
+    private final ReferenceDataCacheInvalidator referenceDataCacheInvalidator;
+    private final StandingsEngine standingsEngine;
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Timer invalidationLagTimer;
+
+    public CacheInvalidationBroadcaster(CacheInvalidationTransport cacheInvalidationTransport,
+                                        TournamentCacheInvalidator tournamentCacheInvalidator,
+                                        ReferenceDataCacheInvalidator referenceDataCacheInvalidator,
+                                        StandingsEngine standingsEngine,
+                                        MeterRegistry meterRegistry) {
+        this.cacheInvalidationTransport = cacheInvalidationTransport;
+        this.tournamentCacheInvalidator = tournamentCacheInvalidator;
+        this.referenceDataCacheInvalidator = referenceDataCacheInvalidator;
+        this.standingsEngine = standingsEngine;
+
+        this.publishedCounter = Counter.builder("tourni.cache.invalidation.published")
+                .description("Cache invalidations sent to other instances")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("tourni.cache.invalidation.received")
+                .description("Cache invalidations received from other instances")
+                .register(meterRegistry);
+        this.invalidationLagTimer = Timer.builder("tourni.cache.invalidation.lag")
+                .description("Time between a remote commit and the local invalidation")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        cacheInvalidationTransport.subscribe(this::onCacheInvalidation);
+    }
+
+    @EventListener
+    public void onMatchResultRecorded(MatchResultRecordedEvent matchResultRecordedEvent) {
+        publish(CacheNames.POINTS_TABLE_BY_TOURNAMENT_ID, matchResultRecordedEvent.getTournamentId());
+    }
+
+    public void publish(String cacheName, long tournamentId) {
+        try {
+            cacheInvalidationTransport.publish(new CacheInvalidationMessage(instanceId, cacheName, tournamentId, System.currentTimeMillis()));
+            publishedCounter.increment();
+        } catch (RuntimeException e) {
+            log.warn("Unable to publish cache invalidation for tournament id: {}", tournamentId, e);
+        }
+    }
+
+    void onCacheInvalidation(CacheInvalidationMessage cacheInvalidationMessage) {
+        if (instanceId.equals(cacheInvalidationMessage.getOriginInstanceId())) {
+            return;
+        }
+
+        long tournamentId = cacheInvalidationMessage.getTournamentId();
+
+        if (CacheNames.REFERENCE_DATA.equals(cacheInvalidationMessage.getCacheName())) {
+            referenceDataCacheInvalidator.invalidate();
+        } else {
+            if (CacheNames.POINTS_TABLE_BY_TOURNAMENT_ID.equals(cacheInvalidationMessage.getCacheName())) {
+                standingsEngine.reload(tournamentId);
+            }
+            tournamentCacheInvalidator.invalidate(cacheInvalidationMessage.getCacheName(), tournamentId);
+        }
+
+        receivedCounter.increment();
+        invalidationLagTimer.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - cacheInvalidationMessage.getPublishedAtEpochMillis())));
+    }
+}
@@ -0,0 +1,25 @@
+package com.tournament.management.cache.invalidation;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Tells other instances that the cached data of a tournament changed.
+ * Carries no data on purpose, receivers reload from the database.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheInvalidationMessage {
+
+    private String originInstanceId;
+
+    private String cacheName;
+
+    private long tournamentId;
+
+    private long publishedAtEpochMillis;
+}
@@ -0,0 +1,14 @@
+package com.tournament.management.cache.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Delivers cache invalidation messages to every instance of the service, including the sender.
+ * Selected with tourni.cache.invalidation.transport.
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidationMessage cacheInvalidationMessage);
+
+    void subscribe(Consumer<CacheInvalidationMessage> subscriber);
+}
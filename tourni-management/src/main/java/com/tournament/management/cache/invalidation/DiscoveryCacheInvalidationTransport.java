@@ -0,0 +1,103 @@
+package com.tournament.management.cache.invalidation;
+
+import com.tournament.management.security.SecurityConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Sends messages to every instance of this service registered in Eureka,
+ * received through CacheInvalidationController. Delivery is best effort, instances that miss a
+ * message are corrected by the standings reconciliation and cache expiry.
+ *
+ * Every instance signs its messages with tourni.cache.invalidation.shared-secret and only accepts messages
+ * that carry the same secret, startup fails when it is not set.
+ */
+@Component
+@ConditionalOnProperty(name = "tourni.cache.invalidation.transport", havingValue = "discovery")
+@Slf4j
+public class DiscoveryCacheInvalidationTransport implements CacheInvalidationTransport, DisposableBean {
+
+    public static final String INVALIDATION_PATH = "/internal/cache/invalidations";
+
+    private final DiscoveryClient discoveryClient;
+
+    private final String serviceId;
+
+    private final byte[] sharedSecret;
+
+    private final RestClient restClient = RestClient.create();
+
+    private final ExecutorService senderExecutor = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("cache-invalidation-"));
+
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    public DiscoveryCacheInvalidationTransport(DiscoveryClient discoveryClient,
+                                               @Value("${spring.application.name}") String serviceId,
+                                               @Value("${tourni.cache.invalidation.shared-secret:}") String sharedSecret) {
+        if (!StringUtils.hasText(sharedSecret)) {
+            throw new IllegalStateException("tourni.cache.invalidation.shared-secret must be set for the discovery cache invalidation transport");
+        }
+        this.discoveryClient = discoveryClient;
+        this.serviceId = serviceId;
+        this.sharedSecret = sharedSecret.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void publish(CacheInvalidationMessage cacheInvalidationMessage) {
+        for (ServiceInstance serviceInstance : discoveryClient.getInstances(serviceId)) {
+            senderExecutor.execute(() -> send(serviceInstance, cacheInvalidationMessage));
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /*
+     * Constant-time comparison, so the secret cannot be guessed from response times
+     */
+    public boolean isAuthorized(String internalToken) {
+        return internalToken != null && MessageDigest.isEqual(sharedSecret, internalToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void receive(CacheInvalidationMessage cacheInvalidationMessage) {
+        subscribers.forEach(subscriber -> subscriber.accept(cacheInvalidationMessage));
+    }
+
+    private void send(ServiceInstance serviceInstance, CacheInvalidationMessage cacheInvalidationMessage) {
+        try {
+            restClient.post()
+                    .uri(serviceInstance.getUri() + INVALIDATION_PATH)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(SecurityConstants.INTERNAL_TOKEN_HEADER, new String(sharedSecret, StandardCharsets.UTF_8))
+                    .body(cacheInvalidationMessage)
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (RuntimeException e) {
+            log.warn("Unable to send cache invalidation for tournament id: {} to {}", cacheInvalidationMessage.getTournamentId(), serviceInstance.getUri(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        senderExecutor.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package com.tournament.management.cache.invalidation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process transport, delivers messages synchronously to the subscribers of this JVM.
+ * Default for single instance deployments and tests.
+ */
+@Component
+@ConditionalOnProperty(name = "tourni.cache.invalidation.transport", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackCacheInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<CacheInvalidationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage cacheInvalidationMessage) {
+        subscribers.forEach(subscriber -> subscriber.accept(cacheInvalidationMessage));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,86 @@
+package com.tournament.management.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tournament.management.cache.CacheNames;
+import com.tournament.management.service.TourniQueryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Caffeine backed caches with per cache size bounds, expiry and background refresh.
+ * Reads use @Cacheable(sync = true), so concurrent misses on one key wait for a single load.
+ *
+ * Statistics are recorded for every cache so the actuator cache metrics
+ * (cache.gets, cache.puts, cache.evictions, cache.size) are exported to Prometheus.
+ */
+@Configuration
+@EnableConfigurationProperties(TourniCacheProperties.class)
+@Slf4j
+public class CacheConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService cacheRefreshExecutor(TourniCacheProperties tourniCacheProperties) {
+        return Executors.newFixedThreadPool(tourniCacheProperties.getRefreshThreads(), new CustomizableThreadFactory("cache-refresh-"));
+    }
+
+    @Bean
+    public CacheManager cacheManager(TourniCacheProperties tourniCacheProperties,
+                                     TourniQueryService tourniQueryService,
+                                     ExecutorService cacheRefreshExecutor) {
+
+        // loaders used to refresh entries in the background, keyed by cache name
+        Map<String, CacheLoader<Object, Object>> cacheLoaders = Map.of(
+                CacheNames.POINTS_TABLE_BY_TOURNAMENT_ID, key -> tourniQueryService.getPointsTableByTournamentId((Long) key),
+                CacheNames.TEAMS_BY_TOURNAMENT_ID, key -> tourniQueryService.getTeamsByTournamentId((Long) key, null, null),
+                CacheNames.TOURNAMENTS, key -> tourniQueryService.getTournaments(null, null, null, null, null)
+        );
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(newBuilder(tourniCacheProperties.getDefaults(), cacheRefreshExecutor));
+
+        tourniCacheProperties.getCaches().forEach((cacheName, cacheSpec) -> {
+            Caffeine<Object, Object> builder = newBuilder(cacheSpec, cacheRefreshExecutor);
+            CacheLoader<Object, Object> cacheLoader = cacheLoaders.get(cacheName);
+
+            Cache<Object, Object> cache;
+            if (cacheSpec.needsLoader() && cacheLoader != null) {
+                if (cacheSpec.getRefreshAfterWrite() != null) {
+                    builder.refreshAfterWrite(cacheSpec.getRefreshAfterWrite());
+                }
+                cache = builder.build(cacheLoader);
+            } else {
+                if (cacheSpec.needsLoader()) {
+                    log.warn("Cache {} has no loader, refresh-after-write and stale-while-revalidate are ignored", cacheName);
+                }
+                cache = builder.build();
+            }
+
+            cacheManager.registerCustomCache(cacheName, cache);
+        });
+
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> newBuilder(TourniCacheProperties.CacheSpec cacheSpec, ExecutorService cacheRefreshExecutor) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(cacheSpec.getMaximumSize())
+                .executor(cacheRefreshExecutor)
+                .recordStats();
+
+        if (cacheSpec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(cacheSpec.getExpireAfterWrite());
+        }
+        return builder;
+    }
+}
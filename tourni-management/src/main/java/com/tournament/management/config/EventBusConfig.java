@@ -0,0 +1,30 @@
+package com.tournament.management.config;
+
+import com.tournament.management.events.bus.MatchResultEventBus;
+import com.tournament.management.events.bus.MatchResultEventConsumer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Post-commit event bus for non-critical match result consumers, see MatchResultEventBus
+ */
+@Configuration
+@EnableConfigurationProperties(TourniEventBusProperties.class)
+public class EventBusConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public MatchResultEventBus matchResultEventBus(ObjectProvider<MatchResultEventConsumer> consumers,
+                                                   TourniEventBusProperties tourniEventBusProperties,
+                                                   MeterRegistry meterRegistry) {
+        // none registered is fine, events are then only seen by the synchronous listeners
+        return new MatchResultEventBus(consumers.orderedStream().toList(),
+                tourniEventBusProperties.getBufferSize(),
+                tourniEventBusProperties.getConsumerThreads(),
+                tourniEventBusProperties.getOverflowPolicy(),
+                tourniEventBusProperties.getBlockTimeout(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package com.tournament.management.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batching for inserts and updates, effective for entities with pooled ids (see IdGenerators).
+ * Values set through spring.jpa.properties in the config server take precedence.
+ */
+@Configuration
+public class HibernateBatchingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchingCustomizer(@Value("${tourni.jpa.batch-size:50}") int batchSize) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            // groups statements per table so batches are not broken up by interleaved entity types
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+            hibernateProperties.putIfAbsent(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+}
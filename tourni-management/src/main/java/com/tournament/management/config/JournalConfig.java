@@ -0,0 +1,28 @@
+package com.tournament.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.management.journal.MatchResultJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Write-behind journal for match results, see MatchResultJournalService
+ */
+@Configuration
+@EnableConfigurationProperties(TourniJournalProperties.class)
+public class JournalConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "tourni.journal.enabled", havingValue = "true")
+    public MatchResultJournal matchResultJournal(TourniJournalProperties tourniJournalProperties, ObjectMapper objectMapper) throws IOException {
+        return new MatchResultJournal(Path.of(tourniJournalProperties.getDirectory()),
+                (int) tourniJournalProperties.getSegmentSize().toBytes(),
+                tourniJournalProperties.getGroupCommitInterval(),
+                objectMapper);
+    }
+}
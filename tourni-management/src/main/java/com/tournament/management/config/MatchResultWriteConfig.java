@@ -0,0 +1,28 @@
+package com.tournament.management.config;
+
+import com.tournament.management.service.MatchResultWriteScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Per-tournament serialization of match result writes, see MatchResultWriteScheduler
+ */
+@Configuration
+@EnableConfigurationProperties(TourniWriteProperties.class)
+public class MatchResultWriteConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public MatchResultWriteScheduler matchResultWriteScheduler(TourniWriteProperties tourniWriteProperties,
+                                                               PlatformTransactionManager transactionManager,
+                                                               MeterRegistry meterRegistry) {
+        return new MatchResultWriteScheduler(tourniWriteProperties.getStripes(),
+                tourniWriteProperties.getMaxAttempts(),
+                tourniWriteProperties.getRetryBackoff(),
+                tourniWriteProperties.getMaxRetryBackoff(),
+                transactionManager,
+                meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.tournament.management.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Transactional outbox for match result changes, see MatchResultOutbox and OutboxRelay
+ */
+@Configuration
+@EnableConfigurationProperties(TourniOutboxProperties.class)
+public class OutboxConfig {
+}
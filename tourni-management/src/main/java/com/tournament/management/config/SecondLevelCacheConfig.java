@@ -0,0 +1,86 @@
+package com.tournament.management.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.tournament.management.cache.SecondLevelCacheRegions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level and query cache for the reference entities, backed by Caffeine through JCache.
+ *
+ * Every region is created up front with its size bound and expiry from tourni.cache.second-level,
+ * Hibernate fails on startup if an entity asks for a region that is not created here.
+ * Region statistics are exported like the Spring caches (cache.gets, cache.puts, cache.evictions, cache.size),
+ * tagged with cacheManager=hibernate.
+ *
+ * Edits made outside Hibernate are not seen until expiry, see ReferenceDataCacheInvalidator.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    private static final String METRICS_CACHE_MANAGER = "hibernate";
+
+    // one entry per table, must outlive every cached query result
+    private static final long UPDATE_TIMESTAMPS_MAXIMUM_SIZE = 10_000;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(TourniCacheProperties tourniCacheProperties, MeterRegistry meterRegistry) {
+        CachingProvider cachingProvider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(), getClass().getClassLoader());
+
+        TourniCacheProperties.SecondLevel secondLevel = tourniCacheProperties.getSecondLevel();
+        for (String regionName : SecondLevelCacheRegions.CONFIGURABLE_REGIONS) {
+            TourniCacheProperties.CacheSpec cacheSpec = secondLevel.getRegionSpec(regionName);
+            createRegion(cacheManager, regionName, cacheSpec.getMaximumSize(), cacheSpec.getExpireAfterWrite(), meterRegistry);
+        }
+        createRegion(cacheManager, SecondLevelCacheRegions.UPDATE_TIMESTAMPS, UPDATE_TIMESTAMPS_MAXIMUM_SIZE, null, meterRegistry);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(TourniCacheProperties tourniCacheProperties, CacheManager secondLevelCacheManager) {
+        boolean enabled = tourniCacheProperties.getSecondLevel().isEnabled();
+        log.info("Hibernate second-level cache {}", enabled ? "enabled" : "disabled");
+
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String regionName, long maximumSize, Duration expireAfterWrite, MeterRegistry meterRegistry) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        // Hibernate caches disassembled state, copying it on every read and write buys nothing
+        configuration.setStoreByValue(false);
+        configuration.setNativeStatisticsEnabled(true);
+
+        Cache<Object, Object> cache = cacheManager.createCache(regionName, configuration);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class), regionName,
+                Tags.of("cacheManager", METRICS_CACHE_MANAGER));
+    }
+}
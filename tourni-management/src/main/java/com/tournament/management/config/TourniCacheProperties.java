@@ -0,0 +1,115 @@
+package com.tournament.management.config;
+
+import com.tournament.management.cache.CacheNames;
+import com.tournament.management.cache.SecondLevelCacheRegions;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per cache policies, e.g.
+ *
+ * tourni.cache.caches.pointsTableByTournamentId.maximum-size=200
+ * tourni.cache.caches.pointsTableByTournamentId.expire-after-write=10m
+ * tourni.cache.caches.tournaments.refresh-after-write=1m
+ * tourni.cache.caches.pointsTableByTournamentId.stale-while-revalidate=true
+ * tourni.cache.caches.pointsTableByTournamentId.max-staleness=5s
+ *
+ * A configured cache replaces the default spec of that cache as a whole.
+ *
+ * Hibernate second-level cache regions of the reference entities are bounded the same way, e.g.
+ *
+ * tourni.cache.second-level.regions.team.maximum-size=5000
+ * tourni.cache.second-level.regions.team.expire-after-write=1h
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tourni.cache")
+public class TourniCacheProperties {
+
+    /*
+     * Threads used to reload entries of caches with refresh-after-write
+     */
+    private int refreshThreads = 2;
+
+    /*
+     * Spec used for caches that are not configured
+     */
+    private CacheSpec defaults = new CacheSpec(1000, Duration.ofMinutes(10), null, false, null);
+
+    private Map<String, CacheSpec> caches = new HashMap<>(Map.of(
+            CacheNames.POINTS_TABLE_BY_TOURNAMENT_ID, new CacheSpec(200, Duration.ofMinutes(10), null, true, Duration.ofSeconds(5)),
+            CacheNames.TEAMS_BY_TOURNAMENT_ID, new CacheSpec(200, Duration.ofHours(1), null, false, null),
+            CacheNames.TOURNAMENTS, new CacheSpec(1, Duration.ofHours(1), Duration.ofMinutes(5), false, null)
+    ));
+
+    private SecondLevel secondLevel = new SecondLevel();
+
+    @Getter
+    @Setter
+    public static class SecondLevel {
+
+        /*
+         * Caches Tournament, Team, TournamentType and TeamToTournamentMapping and the queries over them
+         */
+        private boolean enabled = true;
+
+        /*
+         * Spec used for regions that are not configured, only maximum-size and expire-after-write apply
+         */
+        private CacheSpec defaults = new CacheSpec(1000, Duration.ofHours(1), null, false, null);
+
+        private Map<String, CacheSpec> regions = new HashMap<>(Map.of(
+                SecondLevelCacheRegions.TOURNAMENT, new CacheSpec(1000, Duration.ofHours(1), null, false, null),
+                SecondLevelCacheRegions.TEAM, new CacheSpec(5000, Duration.ofHours(1), null, false, null),
+                SecondLevelCacheRegions.TOURNAMENT_TYPE, new CacheSpec(100, Duration.ofHours(12), null, false, null),
+                SecondLevelCacheRegions.TEAM_TO_TOURNAMENT_MAPPING, new CacheSpec(20000, Duration.ofHours(1), null, false, null),
+                SecondLevelCacheRegions.QUERY_RESULTS, new CacheSpec(5000, Duration.ofMinutes(10), null, false, null)
+        ));
+
+        public CacheSpec getRegionSpec(String regionName) {
+            return regions.getOrDefault(regionName, defaults);
+        }
+    }
+
+    @Getter
+    @Setter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CacheSpec {
+
+        private long maximumSize = 1000;
+
+        /*
+         * Entries older than this are dropped and reloaded on the next read
+         */
+        private Duration expireAfterWrite;
+
+        /*
+         * Entries older than this are reloaded in the background while the old value keeps being served,
+         * only applies to caches that have a loader
+         */
+        private Duration refreshAfterWrite;
+
+        /*
+         * When an entry is invalidated the previous value keeps being served while it is reloaded in the background,
+         * only applies to caches that have a loader
+         */
+        private boolean staleWhileRevalidate;
+
+        /*
+         * How long the previous value may be served after invalidation, if the reload takes longer the entry is dropped
+         */
+        private Duration maxStaleness = Duration.ofSeconds(5);
+
+        public boolean needsLoader() {
+            return refreshAfterWrite != null || staleWhileRevalidate;
+        }
+    }
+}
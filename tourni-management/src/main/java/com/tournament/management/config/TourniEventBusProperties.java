@@ -0,0 +1,37 @@
+package com.tournament.management.config;
+
+import com.tournament.management.events.bus.OverflowPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Post-commit event bus for non-critical match result consumers, see MatchResultEventBus, e.g.
+ *
+ * tourni.events.buffer-size=4096
+ * tourni.events.overflow-policy=drop-oldest
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tourni.events")
+public class TourniEventBusProperties {
+
+    /*
+     * Events buffered per consumer before the overflow policy applies
+     */
+    private int bufferSize = 1024;
+
+    /*
+     * Threads shared by all consumers, a consumer never runs on more than one of them at a time
+     */
+    private int consumerThreads = 2;
+
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_NEWEST;
+
+    /*
+     * Longest time the publishing thread waits for space with overflow-policy=block before the event is dropped
+     */
+    private Duration blockTimeout = Duration.ofMillis(50);
+}
@@ -0,0 +1,59 @@
+package com.tournament.management.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Accept-then-apply mode for match results, e.g.
+ *
+ * tourni.journal.enabled=true
+ * tourni.journal.directory=/var/lib/tourni/journal
+ * tourni.journal.group-commit-interval=2ms
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tourni.journal")
+public class TourniJournalProperties {
+
+    private boolean enabled = false;
+
+    /*
+     * Local directory for journal segments and the checkpoint, must survive restarts
+     */
+    private String directory = "data/journal";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /*
+     * Time appends wait for others to join before one fsync makes all of them durable
+     */
+    private Duration groupCommitInterval = Duration.ofMillis(2);
+
+    /*
+     * Results applied per tournament in one transaction
+     */
+    private int batchSize = 100;
+
+    private int applierThreads = 4;
+
+    /*
+     * Delay before a result that failed to apply is applied again, doubled on every further failure
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    private Duration maxRetryBackoff = Duration.ofMinutes(1);
+
+    /*
+     * Attempts after which a result that still fails is given up on, so it no longer holds the checkpoint back
+     */
+    private int maxApplyAttempts = 10;
+
+    /*
+     * How long the status of an accepted result can be looked up
+     */
+    private Duration statusRetention = Duration.ofHours(1);
+}
@@ -0,0 +1,27 @@
+package com.tournament.management.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Page sizes of the tournament and team listings, e.g.
+ *
+ * tourni.listing.default-page-size=100
+ * tourni.listing.max-page-size=500
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tourni.listing")
+public class TourniListingProperties {
+
+    /*
+     * Used when the request does not ask for a page size, only these pages are cached
+     */
+    private int defaultPageSize = 100;
+
+    /*
+     * Larger requested page sizes are reduced to this
+     */
+    private int maxPageSize = 500;
+}
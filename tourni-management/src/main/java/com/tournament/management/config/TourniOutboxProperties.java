@@ -0,0 +1,34 @@
+package com.tournament.management.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Transactional outbox for match result changes, see OutboxRelay, e.g.
+ *
+ * tourni.outbox.batch-size=500
+ * tourni.outbox.retention=3d
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tourni.outbox")
+public class TourniOutboxProperties {
+
+    /*
+     * Writes an outbox row with every match result change and runs the relay
+     */
+    private boolean enabled = true;
+
+    /*
+     * Events handed to the sink at once
+     */
+    private int batchSize = 100;
+
+    /*
+     * Published events are deleted once they are older than this
+     */
+    private Duration retention = Duration.ofDays(7);
+}
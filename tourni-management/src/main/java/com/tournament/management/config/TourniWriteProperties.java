@@ -0,0 +1,39 @@
+package com.tournament.management.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Scheduling of match result writes, see MatchResultWriteScheduler, e.g.
+ *
+ * tourni.writes.stripes=16
+ * tourni.writes.max-attempts=5
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "tourni.writes")
+public class TourniWriteProperties {
+
+    /*
+     * Writes of one tournament always run on the same stripe, in submission order
+     */
+    private int stripes = 8;
+
+    /*
+     * Attempts per write, including the first one, when it fails on an optimistic lock, a lock timeout or a deadlock
+     */
+    private int maxAttempts = 3;
+
+    /*
+     * Wait before the first retry, doubled for every further retry
+     */
+    private Duration retryBackoff = Duration.ofMillis(20);
+
+    /*
+     * Upper bound of the doubled wait, before jitter
+     */
+    private Duration maxRetryBackoff = Duration.ofSeconds(1);
+}
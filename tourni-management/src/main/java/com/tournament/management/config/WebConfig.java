@@ -2,6 +2,7 @@ package com.tournament.management.config;
 
 import com.tournament.management.security.UserContextInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -10,6 +11,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * Web configuration to register interceptors
  */
 @Configuration
+@EnableConfigurationProperties(TourniListingProperties.class)
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     
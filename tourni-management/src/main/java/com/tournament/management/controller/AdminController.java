@@ -0,0 +1,73 @@
+package com.tournament.management.controller;
+
+import com.tournament.management.cache.CacheNames;
+import com.tournament.management.cache.ReferenceDataCacheInvalidator;
+import com.tournament.management.cache.invalidation.CacheInvalidationBroadcaster;
+import com.tournament.management.dto.CommonApiResponse;
+import com.tournament.management.dto.StandingsRebuildReport;
+import com.tournament.management.security.UserContextHolder;
+import com.tournament.management.security.annotations.RequiresAdmin;
+import com.tournament.management.standings.StandingsRebuildService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/manage/admin")
+@Slf4j
+@RequiredArgsConstructor
+@Tag(name = "Tourni Management Admin", description = "Maintenance operations for administrators")
+public class AdminController {
+
+    private final StandingsRebuildService standingsRebuildService;
+
+    private final ReferenceDataCacheInvalidator referenceDataCacheInvalidator;
+
+    private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+    @Operation(
+            description = "Post endpoint to regenerate team stats and points table by replaying all match results",
+            summary = "Rebuild standings from match results",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Standings replayed, see the differences found"),
+                    @ApiResponse(responseCode = "400", description = "Bad request or a rebuild is already running"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    @RequiresAdmin
+    @PostMapping("standings/rebuild")
+    public ResponseEntity<CommonApiResponse<StandingsRebuildReport>> rebuildStandings(
+            @RequestParam(name = "tournamentId", required = false) Long tournamentId,
+            @RequestParam(name = "dryRun", defaultValue = "true") boolean dryRun) {
+        log.info("Admin {} rebuilding standings of tournament {} (dry run: {})",
+                UserContextHolder.getCurrentUsername(), tournamentId == null ? "all" : tournamentId, dryRun);
+
+        return ResponseEntity.ok(new CommonApiResponse<>(standingsRebuildService.rebuild(tournamentId, dryRun)));
+    }
+
+    @Operation(
+            description = "Post endpoint to drop the cached tournaments, teams, tournament types and team mappings on every instance, " +
+                    "required after these tables were edited directly in the database",
+            summary = "Invalidate cached reference data",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Reference data invalidated"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    @RequiresAdmin
+    @PostMapping("cache/reference-data/invalidate")
+    public ResponseEntity<CommonApiResponse<String>> invalidateReferenceData() {
+        log.info("Admin {} invalidating cached reference data", UserContextHolder.getCurrentUsername());
+
+        referenceDataCacheInvalidator.invalidate();
+        cacheInvalidationBroadcaster.publish(CacheNames.REFERENCE_DATA, 0);
+
+        return ResponseEntity.ok(new CommonApiResponse<>("Cached reference data invalidated"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.tournament.management.controller;
+
+import com.tournament.management.cache.invalidation.CacheInvalidationMessage;
+import com.tournament.management.cache.invalidation.DiscoveryCacheInvalidationTransport;
+import com.tournament.management.security.SecurityConstants;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Receives cache invalidations sent by other instances of this service.
+ * Requests without the instances' shared secret in X-Internal-Token are refused.
+ */
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "tourni.cache.invalidation.transport", havingValue = "discovery")
+public class CacheInvalidationController {
+
+    private final DiscoveryCacheInvalidationTransport discoveryCacheInvalidationTransport;
+
+    @PostMapping(DiscoveryCacheInvalidationTransport.INVALIDATION_PATH)
+    public ResponseEntity<Void> receiveCacheInvalidation(@RequestHeader(name = SecurityConstants.INTERNAL_TOKEN_HEADER, required = false) String internalToken,
+                                                         @RequestBody CacheInvalidationMessage cacheInvalidationMessage) {
+        if (!discoveryCacheInvalidationTransport.isAuthorized(internalToken)) {
+            log.warn("Refused cache invalidation for tournament id: {} without a valid internal token", cacheInvalidationMessage.getTournamentId());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        discoveryCacheInvalidationTransport.receive(cacheInvalidationMessage);
+        return ResponseEntity.accepted().build();
+    }
+}
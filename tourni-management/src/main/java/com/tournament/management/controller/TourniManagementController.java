@@ -1,9 +1,21 @@
 package com.tournament.management.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tournament.management.cache.CacheNames;
+import com.tournament.management.cache.SerializedResponse;
+import com.tournament.management.cache.SerializedResponseCache;
 import com.tournament.management.dto.*;
+import com.tournament.management.exceptions.InvalidRequestException;
+import com.tournament.management.exceptions.RecordAlreadyExistsException;
+import com.tournament.management.exceptions.RecordNotFoundException;
+import com.tournament.management.journal.MatchResultJournalService;
 import com.tournament.management.security.annotations.RequiresAdmin;
 import com.tournament.management.security.annotations.RequiresUser;
 import com.tournament.management.security.UserContextHolder;
+import com.tournament.management.service.MatchResultBulkIngestionService;
+import com.tournament.management.service.MatchResultCorrectionService;
 import com.tournament.management.service.TourniManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,11 +23,23 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 @RestController
 @RequestMapping("/api/v1/manage")
@@ -24,34 +48,58 @@ import java.util.List;
 @Tag(name = "Tourni Management", description = "Tourni Management APIs")
 public class TourniManagementController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final TourniManagementService tourniManagementService;
 
+    private final SerializedResponseCache serializedResponseCache;
+
+    private final MatchResultBulkIngestionService matchResultBulkIngestionService;
+
+    private final MatchResultCorrectionService matchResultCorrectionService;
+
+    private final ObjectMapper objectMapper;
+
+    // present only when tourni.journal.enabled=true
+    private final Optional<MatchResultJournalService> matchResultJournalService;
+
     @Operation(
             description = "Get endpoint to retrieve points table by tournament id",
             summary = "Get points table by tournament id",
 
             responses = {
                     @ApiResponse(responseCode = "200", description = "Points table retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "Points table not modified since the given ETag"),
                     @ApiResponse(responseCode = "400", description = "Bad request"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
                     @ApiResponse(responseCode = "500", description = "Internal server error"),
             })
     @RequiresUser  // Requires USER or ADMIN role
     @GetMapping("/pointstable/tournament/{id}")
-    public ResponseEntity<CommonApiResponse<PointsTableByTournamentResponse>> getPointsTableByTournamentId(@PathVariable(name = "id") Long tournamentId) {
+    public ResponseEntity<byte[]> getPointsTableByTournamentId(@PathVariable(name = "id") Long tournamentId, WebRequest webRequest) {
         log.info("User {} requesting points table for tournament {}", 
                 UserContextHolder.getCurrentUsername(), tournamentId);
-        
-        PointsTableByTournamentResponse pointsTableByTournamentResponse = tourniManagementService.getPointsTableByTournamentId(tournamentId);
-        CommonApiResponse<PointsTableByTournamentResponse> pointsTable = new CommonApiResponse<>(pointsTableByTournamentResponse);
-        return ResponseEntity.ok(pointsTable);
+
+        // the current version answers conditional requests, the body is labelled with the version it was read from
+        String eTag = tourniManagementService.getPointsTableETag(tournamentId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        // while stale-while-revalidate reloads the table the previous one is served, labelled with its own version
+        PointsTableByTournamentResponse pointsTable = tourniManagementService.getPointsTableByTournamentId(tournamentId);
+        SerializedResponse serializedPointsTable = serializedResponseCache.get(CacheNames.POINTS_TABLE_BY_TOURNAMENT_ID, tournamentId,
+                pointsTable.getVersionTag(), () -> new CommonApiResponse<>(pointsTable));
+        return toResponseEntity(serializedPointsTable, webRequest);
     }
 
     @Operation(
             description = "Post endpoint to add match result",
             summary = "Save match result, update team stats and points table",
             responses = {
+                    @ApiResponse(responseCode = "200", description = "Match result was already recorded, nothing changed"),
                     @ApiResponse(responseCode = "201", description = "Match result saved successfully"),
+                    @ApiResponse(responseCode = "202", description = "Match result journaled, applied in the background (journal mode)"),
                     @ApiResponse(responseCode = "400", description = "Bad request"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
                     @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
@@ -59,10 +107,24 @@ public class TourniManagementController {
             })
     @RequiresAdmin  // Only ADMIN can add match results
     @PostMapping("addMatchResult")
-    public ResponseEntity<CommonApiResponse<String>> addMatchResult(@Valid @RequestBody AddMatchResultRequest addMatchResultRequest) {
+    public ResponseEntity<CommonApiResponse<?>> addMatchResult(@Valid @RequestBody AddMatchResultRequest addMatchResultRequest) {
         log.info("Admin {} adding match result", UserContextHolder.getCurrentUsername());
-        
-        tourniManagementService.addMatchResult(addMatchResultRequest);
+
+        if (matchResultJournalService.isPresent()) {
+            return acceptMatchResult(matchResultJournalService.get(), addMatchResultRequest);
+        }
+
+        boolean recorded;
+        try {
+            recorded = tourniManagementService.addMatchResult(addMatchResultRequest);
+        } catch (RecordAlreadyExistsException e) {
+            // lost the race against a concurrent request for the same match
+            recorded = false;
+        }
+
+        if (!recorded) {
+            return ResponseEntity.ok(new CommonApiResponse<>("Match result already recorded"));
+        }
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -70,8 +132,98 @@ public class TourniManagementController {
     }
 
     @Operation(
-            description = "Get endpoint to retrieve all tournaments",
-            summary = "Get all tournaments",
+            description = "Get endpoint to retrieve the status of a match result accepted in journal mode",
+            summary = "Get status of an accepted match result",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Status retrieved successfully"),
+                    @ApiResponse(responseCode = "400", description = "Unknown or expired result id, or journal mode disabled"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    @RequiresAdmin
+    @GetMapping("matchResults/accepted/{resultId}")
+    public ResponseEntity<CommonApiResponse<AcceptedMatchResultResponse>> getAcceptedMatchResult(@PathVariable(name = "resultId") long resultId) {
+        MatchResultJournalService journalService = matchResultJournalService
+                .orElseThrow(() -> new RecordNotFoundException("Match results are not journaled, tourni.journal.enabled is false"));
+
+        return ResponseEntity.ok(new CommonApiResponse<>(journalService.getStatus(resultId)));
+    }
+
+    @Operation(
+            description = "Post endpoint to add many match results at once, as a JSON array or as NDJSON (one result per line)",
+            summary = "Save match results in bulk, update team stats and points table once per tournament",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Match results processed, see the status of each item"),
+                    @ApiResponse(responseCode = "400", description = "Bad request"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    @RequiresAdmin  // Only ADMIN can add match results
+    @PostMapping(value = "matchResults/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<CommonApiResponse<BulkMatchResultResponse>> addMatchResults(@RequestBody List<AddMatchResultRequest> addMatchResultRequests) {
+        log.info("Admin {} adding {} match results", UserContextHolder.getCurrentUsername(), addMatchResultRequests.size());
+
+        return ResponseEntity.ok(new CommonApiResponse<>(matchResultBulkIngestionService.ingest(addMatchResultRequests)));
+    }
+
+    @RequiresAdmin  // Only ADMIN can add match results
+    @PostMapping(value = "matchResults/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<CommonApiResponse<BulkMatchResultResponse>> addMatchResultsNdjson(InputStream body) throws IOException {
+        List<AddMatchResultRequest> addMatchResultRequests = readNdjson(body, matchResultBulkIngestionService.getMaxItems());
+        log.info("Admin {} adding {} match results", UserContextHolder.getCurrentUsername(), addMatchResultRequests.size());
+
+        return ResponseEntity.ok(new CommonApiResponse<>(matchResultBulkIngestionService.ingest(addMatchResultRequests)));
+    }
+
+    @Operation(
+            description = "Put endpoint to correct a recorded match result, the previous result is taken back out of team stats and points table",
+            summary = "Correct a recorded match result",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Match result corrected successfully"),
+                    @ApiResponse(responseCode = "400", description = "Bad request or no match result recorded for the match number"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    @RequiresAdmin  // Only ADMIN can change match results
+    @PutMapping("matchResults/{tournamentId}/{matchNumber}")
+    public ResponseEntity<CommonApiResponse<String>> updateMatchResult(@PathVariable(name = "tournamentId") long tournamentId,
+                                                                       @PathVariable(name = "matchNumber") long matchNumber,
+                                                                       @Valid @RequestBody AddMatchResultRequest addMatchResultRequest) {
+        log.info("Admin {} correcting match {} of tournament {}", UserContextHolder.getCurrentUsername(), matchNumber, tournamentId);
+
+        matchResultCorrectionService.updateMatchResult(tournamentId, matchNumber, addMatchResultRequest);
+
+        return ResponseEntity.ok(new CommonApiResponse<>("Match result corrected successfully"));
+    }
+
+    @Operation(
+            description = "Delete endpoint to remove a recorded match result, its result is taken back out of team stats and points table",
+            summary = "Delete a recorded match result",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Match result deleted successfully"),
+                    @ApiResponse(responseCode = "400", description = "No match result recorded for the match number"),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+                    @ApiResponse(responseCode = "500", description = "Internal server error")
+            })
+    @RequiresAdmin  // Only ADMIN can change match results
+    @DeleteMapping("matchResults/{tournamentId}/{matchNumber}")
+    public ResponseEntity<CommonApiResponse<String>> deleteMatchResult(@PathVariable(name = "tournamentId") long tournamentId,
+                                                                       @PathVariable(name = "matchNumber") long matchNumber) {
+        log.info("Admin {} deleting match {} of tournament {}", UserContextHolder.getCurrentUsername(), matchNumber, tournamentId);
+
+        matchResultCorrectionService.deleteMatchResult(tournamentId, matchNumber);
+
+        return ResponseEntity.ok(new CommonApiResponse<>("Match result deleted successfully"));
+    }
+
+    @Operation(
+            description = "Get endpoint to retrieve tournaments in id order, filtered by type, year and active flag. " +
+                    "Pages are read from the cursor returned in the X-Next-Cursor header, the header is absent on the last page",
+            summary = "Get tournaments page by page",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Tournaments retrieved successfully"),
                     @ApiResponse(responseCode = "400", description = "Bad request"),
@@ -80,31 +232,131 @@ public class TourniManagementController {
             })
     @RequiresUser  // Requires USER or ADMIN role
     @GetMapping("tournaments")
-    public ResponseEntity<CommonApiResponse<List<TournamentDTO>>> getAllTournaments() {
-        log.info("User {} requesting all tournaments", UserContextHolder.getCurrentUsername());
-        
-        List<TournamentDTO> tournamentDTOList = tourniManagementService.getAllTournaments();
-        CommonApiResponse<List<TournamentDTO>> tournaments = new CommonApiResponse<>(tournamentDTOList);
-        return ResponseEntity.ok(tournaments);
+    public ResponseEntity<CommonApiResponse<List<TournamentDTO>>> getAllTournaments(
+            @RequestParam(name = "tournamentTypeId", required = false) Long tournamentTypeId,
+            @RequestParam(name = "tournamentYear", required = false) Integer tournamentYear,
+            @RequestParam(name = "isActive", required = false) Boolean active,
+            @RequestParam(name = "cursor", required = false) Long cursor,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+        log.info("User {} requesting tournaments after {}", UserContextHolder.getCurrentUsername(), cursor);
+
+        KeysetPage<TournamentDTO> tournaments = tourniManagementService.getTournaments(tournamentTypeId, tournamentYear, active, cursor, limit);
+        return withNextCursor(ResponseEntity.ok(), tournaments.getNextCursor())
+                .body(new CommonApiResponse<>(tournaments.getItems()));
     }
 
     @Operation(
-            description = "Get endpoint to retrieve all teams by tournament id",
-            summary = "Get all teams by tournament id",
+            description = "Get endpoint to retrieve the teams of a tournament in id order. " +
+                    "Pages are read from the cursor returned in the X-Next-Cursor header, the header is absent on the last page",
+            summary = "Get teams by tournament id page by page",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Teams retrieved successfully"),
+                    @ApiResponse(responseCode = "304", description = "Teams not modified since the given ETag"),
                     @ApiResponse(responseCode = "400", description = "Bad request"),
                     @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
                     @ApiResponse(responseCode = "500", description = "Internal server error"),
             })
     @RequiresUser  // Requires USER or ADMIN role
     @GetMapping("/teams")
-    public ResponseEntity<CommonApiResponse<List<TeamDTO>>> getAllTeamsByTournamentId(@RequestParam(name = "tournamentId") Long tournamentId){
-        log.info("User {} requesting teams for tournament {}", 
-                UserContextHolder.getCurrentUsername(), tournamentId);
-        
-        List<TeamDTO> teamDTOList = tourniManagementService.getAllTeamsByTournamentId(tournamentId);
-        CommonApiResponse<List<TeamDTO>> teams = new CommonApiResponse<>(teamDTOList);
-        return ResponseEntity.ok(teams);
+    public ResponseEntity<byte[]> getAllTeamsByTournamentId(@RequestParam(name = "tournamentId") Long tournamentId,
+                                                            @RequestParam(name = "cursor", required = false) Long cursor,
+                                                            @RequestParam(name = "limit", required = false) Integer limit,
+                                                            WebRequest webRequest) throws IOException {
+        log.info("User {} requesting teams for tournament {} after {}",
+                UserContextHolder.getCurrentUsername(), tournamentId, cursor);
+
+        // the version covers every team of the tournament, so it is valid for each page
+        String eTag = tourniManagementService.getTeamsETag(tournamentId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        // only the default first page is kept serialized
+        if (cursor != null || limit != null) {
+            KeysetPage<TeamDTO> teams = tourniManagementService.getTeamsByTournamentId(tournamentId, cursor, limit);
+            return withNextCursor(ResponseEntity.ok(), teams.getNextCursor())
+                    .eTag(eTag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(new CommonApiResponse<>(teams.getItems())));
+        }
+
+        SerializedResponse serializedTeams = serializedResponseCache.getPage(CacheNames.TEAMS_BY_TOURNAMENT_ID, tournamentId, eTag,
+                () -> tourniManagementService.getTeamsByTournamentId(tournamentId, null, null));
+        return toResponseEntity(serializedTeams, webRequest);
+    }
+
+    /*
+     * Journal mode: answers once the result is durable, with the location of its status
+     */
+    private static ResponseEntity<CommonApiResponse<?>> acceptMatchResult(MatchResultJournalService journalService, AddMatchResultRequest addMatchResultRequest) {
+        OptionalLong resultId = journalService.accept(addMatchResultRequest);
+        if (resultId.isEmpty()) {
+            return ResponseEntity.ok(new CommonApiResponse<>("Match result already recorded"));
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .location(URI.create("/api/v1/manage/matchResults/accepted/" + resultId.getAsLong()))
+                .body(new CommonApiResponse<>(journalService.getStatus(resultId.getAsLong())));
+    }
+
+    /*
+     * Reads one result per non-blank line, unreadable lines become null so they are reported as rejected items
+     */
+    private List<AddMatchResultRequest> readNdjson(InputStream body, int maxItems) throws IOException {
+        List<AddMatchResultRequest> addMatchResultRequests = new ArrayList<>();
+        ObjectReader reader = objectMapper.readerFor(AddMatchResultRequest.class);
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (addMatchResultRequests.size() == maxItems) {
+                    throw new InvalidRequestException("At most " + maxItems + " match results can be added at once");
+                }
+                try {
+                    addMatchResultRequests.add(reader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    log.warn("Unreadable match result at item {}: {}", addMatchResultRequests.size(), e.getOriginalMessage());
+                    addMatchResultRequests.add(null);
+                }
+            }
+        }
+        return addMatchResultRequests;
+    }
+
+    /*
+     * Writes the cached bytes as is, gzip encoded when the client accepts it
+     */
+    private static ResponseEntity<byte[]> toResponseEntity(SerializedResponse serializedResponse, WebRequest webRequest) {
+        ResponseEntity.BodyBuilder responseBuilder = withNextCursor(ResponseEntity.ok(), serializedResponse.getNextCursor())
+                .eTag(serializedResponse.getETag())
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (!serializedResponse.hasGzippedJson()) {
+            return responseBuilder.body(serializedResponse.getJson());
+        }
+
+        responseBuilder.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return responseBuilder
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(serializedResponse.getGzippedJson());
+        }
+        return responseBuilder.body(serializedResponse.getJson());
+    }
+
+    /*
+     * The body keeps its list shape, the cursor of the following page travels in a header
+     */
+    private static ResponseEntity.BodyBuilder withNextCursor(ResponseEntity.BodyBuilder responseBuilder, Long nextCursor) {
+        if (nextCursor != null) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, String.valueOf(nextCursor));
+        }
+        return responseBuilder;
     }
 }
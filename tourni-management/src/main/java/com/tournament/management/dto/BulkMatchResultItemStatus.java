@@ -0,0 +1,24 @@
+package com.tournament.management.dto;
+
+import com.tournament.management.utils.ApplicationConstants;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkMatchResultItemStatus {
+
+    private int index;
+
+    private Long tournamentId;
+
+    private Integer matchNumber;
+
+    private ApplicationConstants.MatchResultIngestionStatus status;
+
+    private String message;
+}
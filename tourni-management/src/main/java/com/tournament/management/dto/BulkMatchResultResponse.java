@@ -0,0 +1,25 @@
+package com.tournament.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkMatchResultResponse {
+
+    private int saved;
+
+    private int duplicates;
+
+    private int rejected;
+
+    private int failed;
+
+    private List<BulkMatchResultItemStatus> items;
+}
@@ -0,0 +1,32 @@
+package com.tournament.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a listing ordered by id. nextCursor is passed as cursor to read the following page,
+ * it is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    private final List<T> items;
+
+    private final Long nextCursor;
+
+    /*
+     * Rows are read with one row beyond the page, its presence tells that another page follows
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int pageSize, Function<T, Long> idOf) {
+        if (rows.size() <= pageSize) {
+            return new KeysetPage<>(rows, null);
+        }
+
+        List<T> items = List.copyOf(rows.subList(0, pageSize));
+        return new KeysetPage<>(items, idOf.apply(items.get(pageSize - 1)));
+    }
+}
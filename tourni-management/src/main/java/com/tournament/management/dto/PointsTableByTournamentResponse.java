@@ -1,5 +1,6 @@
 package com.tournament.management.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 
@@ -12,4 +13,10 @@ public class PointsTableByTournamentResponse {
     private long tournamentId;
 
     private List<PointsTableDTO> pointsTable;
+
+    /*
+     * ETag of the rows this table was built from, not part of the body
+     */
+    @JsonIgnore
+    private String versionTag;
 }
@@ -0,0 +1,23 @@
+package com.tournament.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StandingsDifference {
+
+    private long tournamentId;
+
+    private long teamId;
+
+    private String field;
+
+    private String liveValue;
+
+    private String rebuiltValue;
+}
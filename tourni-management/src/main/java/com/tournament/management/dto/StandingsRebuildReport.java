@@ -0,0 +1,34 @@
+package com.tournament.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class StandingsRebuildReport {
+
+    private boolean dryRun;
+
+    private long matchResultsReplayed;
+
+    private int tournaments;
+
+    private long elapsedMillis;
+
+    private double matchResultsPerSecond;
+
+    private List<StandingsDifference> differences;
+
+    private List<Long> rebuiltTournamentIds;
+
+    /*
+     * Tournaments that received results during the rebuild, or could not be replayed, left unchanged
+     */
+    private List<Long> skippedTournamentIds;
+}
@@ -1,6 +1,7 @@
 package com.tournament.management.entity.app;
 
 import com.tournament.management.entity.common.BaseEntity;
+import com.tournament.management.entity.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,11 +13,16 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "match_result")
+@Table(name = "match_result", uniqueConstraints = @UniqueConstraint(name = MatchResult.UNIQUE_MATCH_NUMBER, columnNames = {"tournament_id", "match_number"}))
 public class MatchResult extends BaseEntity {
 
+    public static final String UNIQUE_MATCH_NUMBER = "uk_match_result_tournament_match_number";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "match_result_id_generator")
+    @TableGenerator(name = "match_result_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "match_result",
+            initialValue = IdGenerators.INITIAL_VALUE, allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "match_id", nullable = false)
     private Long matchId;
 
@@ -0,0 +1,74 @@
+package com.tournament.management.entity.app;
+
+import com.tournament.management.entity.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Previous state of a match result, written whenever a recorded result is corrected or deleted.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "match_result_history", indexes = @Index(name = "idx_match_result_history_match", columnList = "tournament_id, match_number"))
+public class MatchResultHistory extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "history_id", nullable = false)
+    private Long historyId;
+
+    @Column(name = "match_id", nullable = false)
+    private long matchId;
+
+    @Column(name = "match_number", nullable = false)
+    private long matchNumber;
+
+    @Column(name = "tournament_id", nullable = false)
+    private long tournamentId;
+
+    @Column(name = "change_type", nullable = false)
+    private String changeType;
+
+    @Column(name = "winner_team_id", nullable = false)
+    private long winnerTeamId;
+
+    @Column(name = "loser_team_id", nullable = false)
+    private long loserTeamId;
+
+    @Column(name = "team_one_id", nullable = false)
+    private long teamOneId;
+
+    @Column(name = "team_two_id", nullable = false)
+    private long teamTwoId;
+
+    @Column(name = "team_one_score", nullable = false)
+    private int teamOneScore;
+
+    @Column(name = "team_two_score", nullable = false)
+    private int teamTwoScore;
+
+    @Column(name = "team_one_wickets", nullable = false)
+    private int teamOneWickets;
+
+    @Column(name = "team_two_wickets", nullable = false)
+    private int teamTwoWickets;
+
+    @Column(name = "team_one_overs_played", nullable = false)
+    private double teamOneOversPlayed;
+
+    @Column(name = "team_two_overs_played", nullable = false)
+    private double teamTwoOversPlayed;
+
+    @Column(name = "match_result_status", nullable = false)
+    private String matchResultStatus;
+
+    @Column(name = "previous_version")
+    private Long previousVersion;
+
+}
@@ -0,0 +1,46 @@
+package com.tournament.management.entity.app;
+
+import com.tournament.management.entity.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Match result change written in the same transaction as the change itself, published by OutboxRelay.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "match_result_outbox", indexes = @Index(name = "idx_match_result_outbox_unpublished", columnList = "published_date, event_id"))
+public class MatchResultOutboxEvent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "tournament_id", nullable = false)
+    private long tournamentId;
+
+    @Column(name = "match_number")
+    private Long matchNumber;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    /*
+     * AddMatchResultRequest as JSON, the result after the change (before it for deletions)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "published_date")
+    private LocalDateTime publishedDate;
+
+}
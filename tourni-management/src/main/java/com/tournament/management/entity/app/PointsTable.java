@@ -1,6 +1,7 @@
 package com.tournament.management.entity.app;
 
 import com.tournament.management.entity.common.BaseEntity;
+import com.tournament.management.entity.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,11 +13,16 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "points_table")
+@Table(name = "points_table", uniqueConstraints = @UniqueConstraint(name = PointsTable.UNIQUE_TOURNAMENT_TEAM, columnNames = {"tournament_id", "team_id"}))
 public class PointsTable extends BaseEntity {
 
+    public static final String UNIQUE_TOURNAMENT_TEAM = "uk_points_table_tournament_team";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "points_table_id_generator")
+    @TableGenerator(name = "points_table_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "points_table",
+            initialValue = IdGenerators.INITIAL_VALUE, allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "points_table_id", nullable = false)
     private long pointsTableId;
 
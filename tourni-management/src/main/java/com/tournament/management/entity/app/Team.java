@@ -1,17 +1,22 @@
 package com.tournament.management.entity.app;
 
+import com.tournament.management.cache.SecondLevelCacheRegions;
 import com.tournament.management.entity.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = SecondLevelCacheRegions.TEAM)
 @Table(name = "team")
 public class Team extends BaseEntity {
 
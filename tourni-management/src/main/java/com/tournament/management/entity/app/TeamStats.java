@@ -1,6 +1,7 @@
 package com.tournament.management.entity.app;
 
 import com.tournament.management.entity.common.BaseEntity;
+import com.tournament.management.entity.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,11 +13,16 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "team_stats")
+@Table(name = "team_stats", uniqueConstraints = @UniqueConstraint(name = TeamStats.UNIQUE_TOURNAMENT_TEAM, columnNames = {"tournament_id", "team_id"}))
 public class TeamStats extends BaseEntity {
 
+    public static final String UNIQUE_TOURNAMENT_TEAM = "uk_team_stats_tournament_team";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "team_stats_id_generator")
+    @TableGenerator(name = "team_stats_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "team_stats",
+            initialValue = IdGenerators.INITIAL_VALUE, allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "team_stats_id")
     private long teamStatsId;
 
@@ -29,13 +35,13 @@ public class TeamStats extends BaseEntity {
     @Column(name = "total_runs_scored", nullable = false)
     private int totalRunsScored;
 
-    @Column(name = "total_overs_played", nullable = false)
-    private double totalTeamOversPlayed;
+    @Column(name = "total_balls_faced", nullable = false)
+    private int totalBallsFaced;
 
     @Column(name = "total_runs_conceded", nullable = false)
     private int totalRunsConceded;
 
-    @Column(name = "total_overs_bowled", nullable = false)
-    private double totalOversBowled;
+    @Column(name = "total_balls_bowled", nullable = false)
+    private int totalBallsBowled;
 
 }
@@ -1,19 +1,32 @@
 package com.tournament.management.entity.app;
 
+import com.tournament.management.cache.SecondLevelCacheRegions;
 import com.tournament.management.entity.common.BaseEntity;
+import com.tournament.management.entity.common.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "team_to_tournament_mapping", uniqueConstraints = @UniqueConstraint(columnNames = {"team_id", "tournament_id"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = SecondLevelCacheRegions.TEAM_TO_TOURNAMENT_MAPPING)
+@Table(name = "team_to_tournament_mapping", uniqueConstraints = @UniqueConstraint(columnNames = {"team_id", "tournament_id"}),
+        indexes = @Index(name = TeamToTournamentMapping.TOURNAMENT_INDEX, columnList = "tournament_id, is_active, team_id"))
 public class TeamToTournamentMapping extends BaseEntity {
 
+    // covers the team ids of a tournament, the unique key leads with team_id
+    public static final String TOURNAMENT_INDEX = "idx_team_to_tournament_mapping_tournament";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "team_to_tournament_mapping_id_generator")
+    @TableGenerator(name = "team_to_tournament_mapping_id_generator", table = IdGenerators.TABLE, pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "team_to_tournament_mapping",
+            initialValue = IdGenerators.INITIAL_VALUE, allocationSize = IdGenerators.ALLOCATION_SIZE)
     @Column(name = "mapping_id")
     private long mappingId;
 
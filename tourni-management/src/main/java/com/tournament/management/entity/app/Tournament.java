@@ -1,20 +1,33 @@
 package com.tournament.management.entity.app;
 
+import com.tournament.management.cache.SecondLevelCacheRegions;
 import com.tournament.management.entity.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Setter
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "tournament", uniqueConstraints = @UniqueConstraint(columnNames = {"tournament_name", "tournament_year"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = SecondLevelCacheRegions.TOURNAMENT)
+@Table(name = "tournament", uniqueConstraints = @UniqueConstraint(columnNames = {"tournament_name", "tournament_year"}),
+        indexes = {
+                @Index(name = Tournament.TYPE_YEAR_INDEX, columnList = "tournament_type_id, tournament_year"),
+                @Index(name = Tournament.YEAR_INDEX, columnList = "tournament_year")
+        })
 public class Tournament extends BaseEntity {
 
+    // InnoDB appends tournament_id to both, so filtered listings read their keyset range in id order
+    public static final String TYPE_YEAR_INDEX = "idx_tournament_type_year";
+    public static final String YEAR_INDEX = "idx_tournament_year";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "tournament_id")
@@ -1,17 +1,22 @@
 package com.tournament.management.entity.app;
 
+import com.tournament.management.cache.SecondLevelCacheRegions;
 import com.tournament.management.entity.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCacheRegions.TOURNAMENT_TYPE)
 @Table(name = "tournament_type")
 public class TournamentType extends BaseEntity {
 
@@ -0,0 +1,27 @@
+package com.tournament.management.entity.common;
+
+/**
+ * Pooled table-based id allocation for entities that are inserted in bulk.
+ *
+ * IDENTITY columns make Hibernate insert rows one at a time to read back every id. With a pooled
+ * table generator an instance reserves ALLOCATION_SIZE ids per round trip to id_generator, so inserts can be batched.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+
+    public static final String PK_COLUMN = "sequence_name";
+
+    public static final String VALUE_COLUMN = "next_val";
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    /*
+     * Above the ids used by data.sql, for databases where Hibernate creates the generator rows
+     */
+    public static final int INITIAL_VALUE = 1000;
+
+    private IdGenerators() {
+        // Constants only
+    }
+}
@@ -0,0 +1,23 @@
+package com.tournament.management.events;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published once a match result and its team stats / points table updates have been saved.
+ * eventType tells a new result from a correction, a deletion or a standings rebuild.
+ * matchResultRequest is the recorded, corrected or deleted result; it is null when several results of the
+ * tournament were recorded together and after a rebuild.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchResultRecordedEvent {
+
+    private final long tournamentId;
+
+    private final MatchResultEventType eventType;
+
+    private final AddMatchResultRequest matchResultRequest;
+}
@@ -0,0 +1,172 @@
+package com.tournament.management.events.bus;
+
+import com.tournament.management.events.MatchResultRecordedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands MatchResultRecordedEvent to the MatchResultEventConsumer beans off the publishing thread.
+ *
+ * MatchResultRecordedEvent is published after the commit, on the thread that recorded the result, so anything
+ * listening synchronously adds to the admin's request latency. Every consumer gets its own bounded buffer,
+ * a slow consumer only fills its own buffer, and the OverflowPolicy decides what happens once it is full.
+ * Consumers are drained in batches by a small shared pool of threads.
+ *
+ * Metrics, tagged with the consumer: tourni.events.queue.depth, tourni.events.lag (publish to consume),
+ * tourni.events.dropped and tourni.events.failed.
+ */
+@Slf4j
+public class MatchResultEventBus {
+
+    private final List<ConsumerChannel> channels = new ArrayList<>();
+    private final ExecutorService consumerExecutor;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration blockTimeout;
+
+    public MatchResultEventBus(List<MatchResultEventConsumer> consumers, int bufferSize, int consumerThreads,
+                               OverflowPolicy overflowPolicy, Duration blockTimeout, MeterRegistry meterRegistry) {
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeout = blockTimeout;
+        this.consumerExecutor = Executors.newFixedThreadPool(Math.max(1, consumerThreads), new CustomizableThreadFactory("match-result-events-"));
+
+        consumers.forEach(consumer -> channels.add(new ConsumerChannel(consumer, bufferSize, meterRegistry)));
+
+        log.info("Match result event bus started with {} consumers, overflow policy {}", channels.size(), overflowPolicy);
+    }
+
+    @EventListener
+    public void onMatchResultRecorded(MatchResultRecordedEvent matchResultRecordedEvent) {
+        long publishedAtNanos = System.nanoTime();
+        for (ConsumerChannel channel : channels) {
+            channel.offer(new BufferedEvent(matchResultRecordedEvent, publishedAtNanos));
+        }
+    }
+
+    public void shutdown() {
+        consumerExecutor.shutdown();
+    }
+
+    private record BufferedEvent(MatchResultRecordedEvent event, long publishedAtNanos) {
+    }
+
+    /*
+     * Buffer of one consumer, at most one batch of it is consumed at a time
+     */
+    private final class ConsumerChannel implements Runnable {
+
+        private final MatchResultEventConsumer consumer;
+        private final BlockingQueue<BufferedEvent> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final Timer lagTimer;
+        private final Counter droppedCounter;
+        private final Counter failedCounter;
+
+        ConsumerChannel(MatchResultEventConsumer consumer, int bufferSize, MeterRegistry meterRegistry) {
+            this.consumer = consumer;
+            this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+
+            this.lagTimer = Timer.builder("tourni.events.lag")
+                    .description("Time from publishing a match result event to handing it to the consumer")
+                    .tag("consumer", consumer.getName())
+                    .register(meterRegistry);
+            this.droppedCounter = Counter.builder("tourni.events.dropped")
+                    .description("Match result events dropped because the consumer's buffer was full")
+                    .tag("consumer", consumer.getName())
+                    .register(meterRegistry);
+            this.failedCounter = Counter.builder("tourni.events.failed")
+                    .description("Match result events in batches the consumer failed on")
+                    .tag("consumer", consumer.getName())
+                    .register(meterRegistry);
+            meterRegistry.gauge("tourni.events.queue.depth", Tags.of("consumer", consumer.getName()),
+                    buffer, BlockingQueue::size);
+        }
+
+        void offer(BufferedEvent bufferedEvent) {
+            if (!enqueue(bufferedEvent)) {
+                droppedCounter.increment();
+                log.debug("Dropped match result event of tournament id: {} for consumer {}", bufferedEvent.event().getTournamentId(), consumer.getName());
+            }
+            schedule();
+        }
+
+        private boolean enqueue(BufferedEvent bufferedEvent) {
+            switch (overflowPolicy) {
+                case DROP_OLDEST:
+                    while (!buffer.offer(bufferedEvent)) {
+                        if (buffer.poll() != null) {
+                            droppedCounter.increment();
+                        }
+                    }
+                    return true;
+                case BLOCK:
+                    try {
+                        return buffer.offer(bufferedEvent, blockTimeout.toNanos(), TimeUnit.NANOSECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                case DROP_NEWEST:
+                default:
+                    return buffer.offer(bufferedEvent);
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                int maxBatchSize = Math.max(1, consumer.getMaxBatchSize());
+                List<BufferedEvent> batch = new ArrayList<>(maxBatchSize);
+                while (buffer.drainTo(batch, maxBatchSize) > 0) {
+                    consume(batch);
+                    batch.clear();
+                }
+            } finally {
+                scheduled.set(false);
+                if (!buffer.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void consume(List<BufferedEvent> batch) {
+            long now = System.nanoTime();
+            batch.forEach(bufferedEvent -> lagTimer.record(now - bufferedEvent.publishedAtNanos(), TimeUnit.NANOSECONDS));
+
+            try {
+                consumer.consume(batch.stream().map(BufferedEvent::event).toList());
+            } catch (RuntimeException e) {
+                // a failing consumer must not stop later batches
+                failedCounter.increment(batch.size());
+                log.error("Match result event consumer {} failed on {} events", consumer.getName(), batch.size(), e);
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    consumerExecutor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // shutting down, buffered events are discarded
+                    scheduled.set(false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.tournament.management.events.bus;
+
+import com.tournament.management.events.MatchResultRecordedEvent;
+
+import java.util.List;
+
+/**
+ * Work that follows a recorded match result but does not decide points_table / team_stats correctness,
+ * e.g. ratings, notifications or analytics. Register as a Spring bean to receive events from MatchResultEventBus.
+ *
+ * Events arrive in batches, in publication order, after the result is committed. Events may be dropped
+ * under load, see OverflowPolicy.
+ */
+public interface MatchResultEventConsumer {
+
+    String getName();
+
+    void consume(List<MatchResultRecordedEvent> events);
+
+    default int getMaxBatchSize() {
+        return 100;
+    }
+}
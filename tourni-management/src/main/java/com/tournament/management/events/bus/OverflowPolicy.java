@@ -0,0 +1,22 @@
+package com.tournament.management.events.bus;
+
+/**
+ * What MatchResultEventBus does with an event when a consumer's buffer is full
+ */
+public enum OverflowPolicy {
+
+    /*
+     * Drop the new event
+     */
+    DROP_NEWEST,
+
+    /*
+     * Drop the oldest buffered event to make room for the new one
+     */
+    DROP_OLDEST,
+
+    /*
+     * Hold the publishing thread for up to block-timeout, then drop the new event
+     */
+    BLOCK
+}
@@ -0,0 +1,14 @@
+package com.tournament.management.journal;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class JournalEntry {
+
+    private final long resultId;
+
+    private final AddMatchResultRequest matchResultRequest;
+}
@@ -0,0 +1,323 @@
+package com.tournament.management.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.exceptions.InvalidRequestException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of accepted match results, stored in memory-mapped segment files named after their first result id.
+ *
+ * Record layout: payload length (int), result id (long), CRC32 of the payload (int), JSON payload.
+ * A zero length or a CRC mismatch marks the end of a segment, so a record torn by a crash is ignored.
+ *
+ * Appends only write to the mapped segment, sync() makes them durable. A single sync thread waits
+ * groupCommitInterval for concurrent appends to join and forces them to disk with one fsync.
+ */
+@Slf4j
+public class MatchResultJournal implements Closeable {
+
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final Duration groupCommitInterval;
+    private final ObjectMapper objectMapper;
+
+    private final NavigableMap<Long, Path> segmentsByFirstResultId = new ConcurrentSkipListMap<>();
+
+    private final BlockingQueue<CompletableFuture<Void>> pendingSyncs = new LinkedBlockingQueue<>();
+    private final Thread syncThread;
+    private volatile boolean running = true;
+
+    // guarded by this
+    private MappedByteBuffer segmentBuffer;
+    private int forcedPosition;
+
+    private volatile long lastResultId;
+
+    public MatchResultJournal(Path directory, int segmentSize, Duration groupCommitInterval, ObjectMapper objectMapper) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.groupCommitInterval = groupCommitInterval;
+        this.objectMapper = objectMapper;
+
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .forEach(file -> segmentsByFirstResultId.put(firstResultIdOf(file), file));
+        }
+
+        openLastSegment();
+
+        this.syncThread = new Thread(this::syncLoop, "match-result-journal-sync");
+        this.syncThread.setDaemon(true);
+        this.syncThread.start();
+
+        log.info("Opened match result journal in {} with {} segments, last result id: {}", directory, segmentsByFirstResultId.size(), lastResultId);
+    }
+
+    public long getLastResultId() {
+        return lastResultId;
+    }
+
+    /*
+     * Writes the result to the current segment and returns its id. onAssigned is called with the id
+     * before the id becomes visible through getLastResultId().
+     */
+    public synchronized long append(AddMatchResultRequest matchResultRequest, LongConsumer onAssigned) throws InvalidRequestException {
+        byte[] payload = toJson(matchResultRequest);
+        int recordSize = HEADER_SIZE + payload.length;
+
+        if (recordSize > segmentSize) {
+            throw new InvalidRequestException("Match result is too large for the journal");
+        }
+
+        long resultId = lastResultId + 1;
+
+        if (segmentBuffer.position() + recordSize > segmentSize) {
+            rollSegment(resultId);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        int position = segmentBuffer.position();
+        segmentBuffer.putLong(position + Integer.BYTES, resultId);
+        segmentBuffer.putInt(position + Integer.BYTES + Long.BYTES, (int) crc.getValue());
+        segmentBuffer.put(position + HEADER_SIZE, payload);
+        // length last, a record is only visible to readers once complete
+        segmentBuffer.putInt(position, payload.length);
+        segmentBuffer.position(position + recordSize);
+
+        onAssigned.accept(resultId);
+        lastResultId = resultId;
+        return resultId;
+    }
+
+    /*
+     * Completes once everything appended before the call is on disk
+     */
+    public CompletableFuture<Void> sync() {
+        CompletableFuture<Void> pendingSync = new CompletableFuture<>();
+        pendingSyncs.add(pendingSync);
+        return pendingSync;
+    }
+
+    public List<JournalEntry> readAfter(long resultId) throws IOException {
+        List<JournalEntry> journalEntries = new ArrayList<>();
+        for (Path segment : segmentsByFirstResultId.values()) {
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                scan(buffer, segment, journalEntries);
+            }
+        }
+        journalEntries.removeIf(journalEntry -> journalEntry.getResultId() <= resultId);
+        return journalEntries;
+    }
+
+    public long readCheckpoint() throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(checkpoint, StandardCharsets.UTF_8).trim());
+    }
+
+    /*
+     * Records that every result up to appliedResultId is applied and deletes the segments that hold nothing newer
+     */
+    public void writeCheckpoint(long appliedResultId) throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temporary, Long.toString(appliedResultId), StandardCharsets.UTF_8);
+        Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // a segment is fully applied when the next one starts at or before the checkpoint
+        List<Long> firstResultIds = new ArrayList<>(segmentsByFirstResultId.keySet());
+        for (int i = 0; i < firstResultIds.size() - 1; i++) {
+            if (firstResultIds.get(i + 1) - 1 > appliedResultId) {
+                break;
+            }
+            Path segment = segmentsByFirstResultId.remove(firstResultIds.get(i));
+            Files.deleteIfExists(segment);
+            log.debug("Deleted applied journal segment {}", segment);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        syncThread.interrupt();
+        synchronized (this) {
+            segmentBuffer.force();
+        }
+        pendingSyncs.forEach(pendingSync -> pendingSync.complete(null));
+    }
+
+    private void syncLoop() {
+        while (running) {
+            try {
+                CompletableFuture<Void> first = pendingSyncs.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                if (!groupCommitInterval.isZero()) {
+                    // let concurrent appends join this fsync
+                    Thread.sleep(groupCommitInterval.toMillis(), groupCommitInterval.toNanosPart() % 1_000_000);
+                }
+
+                List<CompletableFuture<Void>> group = new ArrayList<>();
+                group.add(first);
+                pendingSyncs.drainTo(group);
+
+                try {
+                    force();
+                    group.forEach(pendingSync -> pendingSync.complete(null));
+                } catch (RuntimeException e) {
+                    log.error("Unable to sync match result journal", e);
+                    group.forEach(pendingSync -> pendingSync.completeExceptionally(e));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void force() {
+        MappedByteBuffer buffer;
+        int from;
+        int to;
+        synchronized (this) {
+            buffer = segmentBuffer;
+            from = forcedPosition;
+            to = segmentBuffer.position();
+            forcedPosition = to;
+        }
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    private void openLastSegment() throws IOException {
+        Map.Entry<Long, Path> lastSegment = segmentsByFirstResultId.lastEntry();
+        if (lastSegment == null) {
+            lastResultId = readCheckpoint();
+            mapSegment(createSegment(lastResultId + 1));
+            return;
+        }
+
+        mapSegment(lastSegment.getValue());
+
+        List<JournalEntry> journalEntries = new ArrayList<>();
+        int endPosition = scan(segmentBuffer, lastSegment.getValue(), journalEntries);
+        segmentBuffer.position(endPosition);
+        forcedPosition = endPosition;
+
+        lastResultId = journalEntries.isEmpty() ? lastSegment.getKey() - 1 : journalEntries.get(journalEntries.size() - 1).getResultId();
+    }
+
+    private void rollSegment(long firstResultId) {
+        try {
+            segmentBuffer.force();
+            mapSegment(createSegment(firstResultId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create journal segment", e);
+        }
+    }
+
+    private Path createSegment(long firstResultId) throws IOException {
+        Path segment = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstResultId, SEGMENT_SUFFIX));
+        segmentsByFirstResultId.put(firstResultId, segment);
+        return segment;
+    }
+
+    private void mapSegment(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // the mapping stays valid after the channel is closed
+            segmentBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        forcedPosition = 0;
+    }
+
+    /*
+     * Reads complete records into journalEntries and returns the position after the last one
+     */
+    private int scan(MappedByteBuffer buffer, Path segment, List<JournalEntry> journalEntries) {
+        int position = 0;
+        int limit = buffer.limit();
+
+        while (position + HEADER_SIZE <= limit) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > limit) {
+                break;
+            }
+
+            long resultId = buffer.getLong(position + Integer.BYTES);
+            int expectedCrc = buffer.getInt(position + Integer.BYTES + Long.BYTES);
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_SIZE, payload);
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("Ignoring torn record at position {} of journal segment {}", position, segment);
+                break;
+            }
+
+            journalEntries.add(new JournalEntry(resultId, fromJson(payload)));
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    private byte[] toJson(AddMatchResultRequest matchResultRequest) {
+        try {
+            return objectMapper.writeValueAsBytes(matchResultRequest);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Unable to write match result to the journal: " + e.getOriginalMessage());
+        }
+    }
+
+    private AddMatchResultRequest fromJson(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, AddMatchResultRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read match result from the journal", e);
+        }
+    }
+
+    private static long firstResultIdOf(Path segment) {
+        String fileName = segment.getFileName().toString();
+        return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,308 @@
+package com.tournament.management.journal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tournament.management.config.TourniJournalProperties;
+import com.tournament.management.dto.AcceptedMatchResultResponse;
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.dto.BulkMatchResultItemStatus;
+import com.tournament.management.exceptions.RecordNotFoundException;
+import com.tournament.management.service.MatchResultBulkIngestionService;
+import com.tournament.management.service.RecordedMatchNumbers;
+import com.tournament.management.utils.ApplicationConstants.MatchResultIngestionStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Accept-then-apply mode for match results, enabled with tourni.journal.enabled=true.
+ *
+ * accept() returns once the result is durable in the MatchResultJournal. Results are then applied per tournament,
+ * one batch at a time, through MatchResultBulkIngestionService. The checkpoint only moves past results
+ * that were applied, so after a restart every result that may not be applied yet is replayed; results that
+ * were applied anyway are recognised by their match number and skipped.
+ *
+ * Results that fail to apply are dispatched again after a backoff that doubles up to max-retry-backoff, each on
+ * its own so one bad result cannot fail the others of its tournament again. After max-apply-attempts the result
+ * is given up on: it stays FAILED, is logged in full and no longer holds the checkpoint back.
+ * tourni.journal.failed counts the results waiting for a retry, tourni.journal.abandoned the ones given up on.
+ */
+@Service
+@ConditionalOnProperty(name = "tourni.journal.enabled", havingValue = "true")
+@Slf4j
+public class MatchResultJournalService implements DisposableBean {
+
+    private final MatchResultJournal matchResultJournal;
+    private final MatchResultBulkIngestionService matchResultBulkIngestionService;
+    private final RecordedMatchNumbers recordedMatchNumbers;
+    private final int batchSize;
+
+    private final ConcurrentSkipListSet<Long> unappliedResultIds = new ConcurrentSkipListSet<>();
+    private final Map<Long, TournamentApplier> appliersByTournamentId = new ConcurrentHashMap<>();
+    private final ExecutorService applierExecutor;
+    private final ScheduledExecutorService retryExecutor;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final int maxApplyAttempts;
+    private final Counter abandonedCounter;
+    private final Map<Long, Integer> failedAttemptsByResultId = new ConcurrentHashMap<>();
+    private final Cache<Long, AcceptedMatchResultResponse> statusesByResultId;
+
+    private final List<JournalEntry> entriesToReplay;
+    private volatile long checkpoint;
+
+    public MatchResultJournalService(MatchResultJournal matchResultJournal,
+                                     MatchResultBulkIngestionService matchResultBulkIngestionService,
+                                     RecordedMatchNumbers recordedMatchNumbers,
+                                     TourniJournalProperties tourniJournalProperties,
+                                     MeterRegistry meterRegistry) throws IOException {
+        this.matchResultJournal = matchResultJournal;
+        this.matchResultBulkIngestionService = matchResultBulkIngestionService;
+        this.recordedMatchNumbers = recordedMatchNumbers;
+        this.batchSize = Math.min(tourniJournalProperties.getBatchSize(), matchResultBulkIngestionService.getMaxItems());
+
+        this.applierExecutor = Executors.newFixedThreadPool(tourniJournalProperties.getApplierThreads(), new CustomizableThreadFactory("match-result-applier-"));
+        this.retryExecutor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("match-result-apply-retry-"));
+        this.retryBackoff = tourniJournalProperties.getRetryBackoff();
+        this.maxRetryBackoff = tourniJournalProperties.getMaxRetryBackoff();
+        this.maxApplyAttempts = Math.max(1, tourniJournalProperties.getMaxApplyAttempts());
+        this.statusesByResultId = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(tourniJournalProperties.getStatusRetention())
+                .build();
+
+        // registered before any new result is accepted so the checkpoint cannot pass them
+        this.checkpoint = matchResultJournal.readCheckpoint();
+        this.entriesToReplay = matchResultJournal.readAfter(checkpoint);
+        entriesToReplay.forEach(journalEntry -> {
+            unappliedResultIds.add(journalEntry.getResultId());
+            statusesByResultId.put(journalEntry.getResultId(), toResponse(journalEntry, MatchResultIngestionStatus.PENDING, null));
+        });
+
+        meterRegistry.gauge("tourni.journal.unapplied", unappliedResultIds, ConcurrentSkipListSet::size);
+        meterRegistry.gauge("tourni.journal.failed", failedAttemptsByResultId, Map::size);
+        this.abandonedCounter = Counter.builder("tourni.journal.abandoned")
+                .description("Journaled match results given up on after max-apply-attempts")
+                .register(meterRegistry);
+    }
+
+    /*
+     * Runs after the standings engine has loaded, so replayed results are applied to it as well
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(10)
+    public void replay() {
+        if (!entriesToReplay.isEmpty()) {
+            log.info("Replaying {} match results from the journal after checkpoint {}", entriesToReplay.size(), checkpoint);
+        }
+        entriesToReplay.forEach(this::dispatch);
+        entriesToReplay.clear();
+    }
+
+    /*
+     * Returns the result id once the result is on disk, empty when the match is already recorded
+     */
+    public OptionalLong accept(AddMatchResultRequest matchResultRequest) {
+        if (recordedMatchNumbers.isRecorded(matchResultRequest.getTournamentId(), matchResultRequest.getMatchNumber())) {
+            return OptionalLong.empty();
+        }
+
+        long resultId = matchResultJournal.append(matchResultRequest, unappliedResultIds::add);
+        try {
+            matchResultJournal.sync().join();
+        } catch (CompletionException e) {
+            // not accepted, the caller gets the error and sends it again, it must not hold the checkpoint back
+            unappliedResultIds.remove(resultId);
+            throw new UncheckedIOException("Unable to make match result durable", new IOException(e.getCause()));
+        }
+
+        JournalEntry journalEntry = new JournalEntry(resultId, matchResultRequest);
+        statusesByResultId.put(resultId, toResponse(journalEntry, MatchResultIngestionStatus.PENDING, null));
+        dispatch(journalEntry);
+
+        return OptionalLong.of(resultId);
+    }
+
+    public AcceptedMatchResultResponse getStatus(long resultId) throws RecordNotFoundException {
+        AcceptedMatchResultResponse status = statusesByResultId.getIfPresent(resultId);
+        if (status == null) {
+            throw new RecordNotFoundException("No accepted match result found with result id: " + resultId);
+        }
+        return status;
+    }
+
+    @Scheduled(fixedDelayString = "${tourni.journal.checkpoint-interval-ms:1000}")
+    public void checkpoint() {
+        // last id first, ids are added to unappliedResultIds before they become the last id
+        long lastResultId = matchResultJournal.getLastResultId();
+        Long firstUnappliedResultId = unappliedResultIds.ceiling(Long.MIN_VALUE);
+        long appliedResultId = firstUnappliedResultId == null ? lastResultId : firstUnappliedResultId - 1;
+
+        if (appliedResultId <= checkpoint) {
+            return;
+        }
+
+        try {
+            matchResultJournal.writeCheckpoint(appliedResultId);
+            checkpoint = appliedResultId;
+        } catch (IOException e) {
+            log.error("Unable to write journal checkpoint {}", appliedResultId, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // pending retries stay unapplied and are replayed after the restart
+        retryExecutor.shutdownNow();
+        applierExecutor.shutdown();
+        checkpoint();
+    }
+
+    private void dispatch(JournalEntry journalEntry) {
+        appliersByTournamentId.computeIfAbsent(journalEntry.getMatchResultRequest().getTournamentId(), tournamentId -> new TournamentApplier())
+                .submit(journalEntry);
+    }
+
+    private void apply(List<JournalEntry> journalEntries) {
+        List<AddMatchResultRequest> matchResultRequests = journalEntries.stream().map(JournalEntry::getMatchResultRequest).toList();
+
+        List<BulkMatchResultItemStatus> items;
+        try {
+            items = matchResultBulkIngestionService.ingest(matchResultRequests).getItems();
+        } catch (RuntimeException e) {
+            log.error("Unable to apply {} journaled match results", journalEntries.size(), e);
+            journalEntries.forEach(journalEntry -> {
+                statusesByResultId.put(journalEntry.getResultId(), toResponse(journalEntry, MatchResultIngestionStatus.FAILED, e.getMessage()));
+                retryLater(journalEntry);
+            });
+            return;
+        }
+
+        for (int i = 0; i < journalEntries.size(); i++) {
+            JournalEntry journalEntry = journalEntries.get(i);
+            BulkMatchResultItemStatus item = items.get(i);
+
+            statusesByResultId.put(journalEntry.getResultId(), toResponse(journalEntry, item.getStatus(), item.getMessage()));
+
+            // failed results stay unapplied, holding the checkpoint back until a retry applies them
+            if (item.getStatus() == MatchResultIngestionStatus.FAILED) {
+                retryLater(journalEntry);
+            } else {
+                failedAttemptsByResultId.remove(journalEntry.getResultId());
+                unappliedResultIds.remove(journalEntry.getResultId());
+            }
+        }
+    }
+
+    private void retryLater(JournalEntry journalEntry) {
+        int attempt = failedAttemptsByResultId.merge(journalEntry.getResultId(), 1, Integer::sum);
+        if (attempt >= maxApplyAttempts) {
+            abandon(journalEntry, attempt);
+            return;
+        }
+
+        long backoffMillis = Math.min(retryBackoff.toMillis() << Math.min(attempt - 1, 20), maxRetryBackoff.toMillis());
+
+        log.warn("Match result {} of tournament id: {} failed to apply {} times, retrying in {} ms", journalEntry.getResultId(),
+                journalEntry.getMatchResultRequest().getTournamentId(), attempt, backoffMillis);
+        try {
+            retryExecutor.schedule(() -> dispatch(journalEntry), backoffMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down, the result is replayed after the restart
+        }
+    }
+
+    private void abandon(JournalEntry journalEntry, int attempts) {
+        failedAttemptsByResultId.remove(journalEntry.getResultId());
+        unappliedResultIds.remove(journalEntry.getResultId());
+        abandonedCounter.increment();
+
+        log.error("Giving up on match result {} after {} failed attempts, it has to be added again: {}",
+                journalEntry.getResultId(), attempts, journalEntry.getMatchResultRequest());
+    }
+
+    private boolean isRetry(JournalEntry journalEntry) {
+        return failedAttemptsByResultId.containsKey(journalEntry.getResultId());
+    }
+
+    private static AcceptedMatchResultResponse toResponse(JournalEntry journalEntry, MatchResultIngestionStatus status, String message) {
+        AddMatchResultRequest matchResultRequest = journalEntry.getMatchResultRequest();
+        return new AcceptedMatchResultResponse(journalEntry.getResultId(), matchResultRequest.getTournamentId(),
+                matchResultRequest.getMatchNumber(), status, message);
+    }
+
+    /*
+     * Applies the results of one tournament in arrival order, at most one batch in flight per tournament
+     */
+    private final class TournamentApplier implements Runnable {
+
+        private final Queue<JournalEntry> journalEntries = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void submit(JournalEntry journalEntry) {
+            journalEntries.add(journalEntry);
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            try {
+                List<JournalEntry> batch = new ArrayList<>(batchSize);
+                JournalEntry journalEntry;
+                while ((journalEntry = journalEntries.poll()) != null) {
+                    if (isRetry(journalEntry)) {
+                        // failed before, applied alone so it cannot take a batch down with it
+                        apply(List.of(journalEntry));
+                        continue;
+                    }
+                    batch.add(journalEntry);
+                    if (batch.size() == batchSize) {
+                        apply(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    apply(batch);
+                }
+            } finally {
+                scheduled.set(false);
+                if (!journalEntries.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                applierExecutor.execute(this);
+            }
+        }
+    }
+}
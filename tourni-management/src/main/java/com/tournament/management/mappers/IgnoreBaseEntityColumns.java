@@ -0,0 +1,22 @@
+package com.tournament.management.mappers;
+
+import org.mapstruct.Mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Leaves the audit columns and the version of a mapped BaseEntity alone,
+ * they are filled by JPA auditing and Hibernate. A copied version would make a new entity look detached.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+@Mapping(target = "recordCreatedDate", ignore = true)
+@Mapping(target = "recordUpdatedDate", ignore = true)
+@Mapping(target = "recordCreatedBy", ignore = true)
+@Mapping(target = "recordUpdatedBy", ignore = true)
+@Mapping(target = "version", ignore = true)
+public @interface IgnoreBaseEntityColumns {
+}
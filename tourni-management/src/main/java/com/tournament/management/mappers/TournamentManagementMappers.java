@@ -1,49 +1,54 @@
 package com.tournament.management.mappers;
 
-
-
-import java.time.LocalDateTime;
-import java.util.UUID;
-
-
 import com.tournament.management.dto.AddMatchResultRequest;
 import com.tournament.management.dto.PointsTableDTO;
-import com.tournament.management.dto.TeamDTO;
-import com.tournament.management.dto.TournamentDTO;
 import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.MatchResultHistory;
 import com.tournament.management.entity.app.PointsTable;
-import com.tournament.management.entity.app.Team;
-import com.tournament.management.entity.app.Tournament;
-import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.stereotype.Component;
-
-@Component
-@RequiredArgsConstructor
-public class TournamentManagementMappers {
-
-    private final ModelMapper modelMapper;
-
-    public MatchResult mapMatchResultRequestDTOToMatchResult(AddMatchResultRequest addMatchResultRequest) {
-        MatchResult matchResult = modelMapper.map(addMatchResultRequest, MatchResult.class);
-        // JPA Auditing will automatically set recordCreatedBy, recordCreatedDate
-        // from @CreatedBy and @CreatedDate annotations in BaseEntity
-        matchResult.setActive(true);
-        return matchResult;
-    }
-
-    public PointsTableDTO mapPointsTableToPointsTableDTO(PointsTable pointsTable, String teamName) {
-        PointsTableDTO pointsTableDTO = modelMapper.map(pointsTable, PointsTableDTO.class);
-        pointsTableDTO.setTeamName(teamName);
-        return pointsTableDTO;
-    }
-
-    public TournamentDTO mapTournamentToTournamentDTO(Tournament tournament) {
-        return modelMapper.map(tournament, TournamentDTO.class);
-    }
-
-    public TeamDTO mapTeamToTeamDTO(Team team) {
-        return modelMapper.map(team, TeamDTO.class);
-    }
-
+import com.tournament.management.utils.ApplicationConstants.MatchResultChangeType;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Entity and DTO conversions, implemented by MapStruct at compile time as plain getter/setter copies.
+ * Every target property has to be mapped or ignored explicitly, a new field fails the build until it is.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface TournamentManagementMappers {
+
+    /*
+     * JPA Auditing sets recordCreatedBy and recordCreatedDate from @CreatedBy and @CreatedDate in BaseEntity
+     */
+    @IgnoreBaseEntityColumns
+    @Mapping(target = "matchId", ignore = true)
+    @Mapping(target = "active", constant = "true")
+    MatchResult mapMatchResultRequestDTOToMatchResult(AddMatchResultRequest addMatchResultRequest);
+
+    /*
+     * Overwrites the recorded values with the corrected ones, ids and audit columns are kept.
+     * Missing scores, wickets and overs reset the recorded ones to 0 like a newly recorded result.
+     */
+    @IgnoreBaseEntityColumns
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_DEFAULT)
+    @Mapping(target = "matchId", ignore = true)
+    @Mapping(target = "matchNumber", ignore = true)
+    @Mapping(target = "tournamentId", ignore = true)
+    @Mapping(target = "active", ignore = true)
+    @Mapping(target = "matchResultStatus", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.SET_TO_NULL)
+    void updateMatchResultFromRequest(@MappingTarget MatchResult matchResult, AddMatchResultRequest addMatchResultRequest);
+
+    @IgnoreBaseEntityColumns
+    @Mapping(target = "historyId", ignore = true)
+    @Mapping(target = "changeType", source = "changeType")
+    @Mapping(target = "previousVersion", source = "matchResult.version")
+    @Mapping(target = "active", constant = "true")
+    MatchResultHistory mapMatchResultToMatchResultHistory(MatchResult matchResult, MatchResultChangeType changeType);
+
+    @Mapping(target = "teamName", source = "teamName")
+    PointsTableDTO mapPointsTableToPointsTableDTO(PointsTable pointsTable, String teamName);
 }
@@ -0,0 +1,39 @@
+package com.tournament.management.observers;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.entity.app.Tournament;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * State shared by the observers of one match result, created by MatchResultContextLoader.
+ * teamStatsByTeamId holds both teams' totals after this result, see MatchResultState.TEAM_STATS_TOTALS.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MatchResultContext {
+
+    private final AddMatchResultRequest matchResultRequest;
+
+    private final Tournament tournament;
+
+    private final LocalDateTime updatedDate;
+
+    private final String updatedBy;
+
+    @Setter
+    private Map<Long, TeamStats> teamStatsByTeamId = Map.of();
+
+    public TeamStats getTeamOneStats() {
+        return teamStatsByTeamId.get(matchResultRequest.getTeamOneId());
+    }
+
+    public TeamStats getTeamTwoStats() {
+        return teamStatsByTeamId.get(matchResultRequest.getTeamTwoId());
+    }
+}
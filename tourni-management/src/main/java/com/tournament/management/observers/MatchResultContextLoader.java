@@ -0,0 +1,37 @@
+package com.tournament.management.observers;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.exceptions.RecordNotFoundException;
+import com.tournament.management.repository.TournamentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Loads the tournament of a match result and resolves the audit values used by the observers' update statements,
+ * which bypass JPA auditing.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchResultContextLoader {
+
+    private final TournamentRepository tournamentRepository;
+    private final AuditorAware<String> auditorProvider;
+    private final DateTimeProvider auditingDateTimeProvider;
+
+    public MatchResultContext load(AddMatchResultRequest matchResultRequest) throws RecordNotFoundException {
+
+        final long tournamentId = matchResultRequest.getTournamentId();
+
+        Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new RecordNotFoundException("No tournament not found for given id : " + tournamentId));
+
+        LocalDateTime updatedDate = auditingDateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now);
+        String updatedBy = auditorProvider.getCurrentAuditor().orElse("system");
+
+        return new MatchResultContext(matchResultRequest, tournament, updatedDate, updatedBy);
+    }
+}
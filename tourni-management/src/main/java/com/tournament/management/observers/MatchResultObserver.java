@@ -1,9 +1,27 @@
 package com.tournament.management.observers;
 
+import java.util.Set;
 
-import com.tournament.management.dto.AddMatchResultRequest;
-
+/**
+ * A stage of recording a match result. MatchResultSubject runs an observer only after every observer
+ * that provides one of its required states.
+ */
 public interface MatchResultObserver {
-    void update(AddMatchResultRequest addMatchResultRequest) throws Exception;
-}
+    void update(MatchResultContext matchResultContext) throws Exception;
+
+    default Set<MatchResultState> requires() {
+        return Set.of();
+    }
 
+    default Set<MatchResultState> provides() {
+        return Set.of();
+    }
+
+    /*
+     * Observers that do not use the caller's transaction (or any other state of the caller's thread) may return
+     * false, they then run concurrently with the other observers of their stage
+     */
+    default boolean isTransactional() {
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.tournament.management.observers;
+
+/**
+ * State an observer produces on the MatchResultContext for the observers that run after it.
+ */
+public enum MatchResultState {
+
+    /*
+     * MatchResultContext.getTeamStatsByTeamId(), both teams' totals after this result
+     */
+    TEAM_STATS_TOTALS,
+
+    /*
+     * points_table rows of both teams include this result
+     */
+    POINTS_TABLE
+}
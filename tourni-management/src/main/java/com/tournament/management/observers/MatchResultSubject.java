@@ -1,57 +1,236 @@
 package com.tournament.management.observers;
 
-import com.tournament.management.dto.AddMatchResultRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
+/**
+ * Notifies observers in dependency order: an observer runs after every observer that provides a state it requires.
+ * Observers are grouped into stages, a stage holds the observers whose requirements the earlier stages provide.
+ *
+ * Within a stage, transactional observers run on the caller thread one at a time in registration order, so they
+ * take part in the caller's transaction. Non-transactional observers of the stage run concurrently with them on
+ * the observer pool, and the next stage starts once all of them are done.
+ * Keep them to what points_table / team_stats correctness needs, other work belongs in a MatchResultEventConsumer.
+ * Each observer is timed as tourni.observers.stage, tagged with the observer.
+ */
 @Component
-public class MatchResultSubject {
+public class MatchResultSubject implements DisposableBean {
     private final List<MatchResultObserver> observers;
-    private final ExecutorService executorService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<MatchResultObserver, Timer> stageTimers = new HashMap<>();
+
+    private final ExecutorService observerExecutor = Executors.newCachedThreadPool(new CustomizableThreadFactory("match-result-observer-"));
+
+    private volatile List<List<MatchResultObserver>> stages = List.of();
+
+    // states required by a registered observer that no registered observer provides
+    private volatile Set<MatchResultState> missingStates = Set.of();
 
     private static final Logger logger = (Logger) LoggerFactory.getLogger(MatchResultSubject.class);
 
-    public MatchResultSubject() {
+    public MatchResultSubject(MeterRegistry meterRegistry) {
         this.observers = new ArrayList<>();
-        this.executorService = Executors.newSingleThreadExecutor();
+        this.meterRegistry = meterRegistry;
     }
 
-    public void addObserver(MatchResultObserver observer) {
+    public synchronized void addObserver(MatchResultObserver observer) {
+        List<MatchResultObserver> candidateObservers = new ArrayList<>(observers);
+        candidateObservers.add(observer);
+        // resolve first, an observer closing a cycle is rejected without being registered
+        List<List<MatchResultObserver>> candidateStages = resolveStages(candidateObservers);
+
         observers.add(observer);
+        stageTimers.put(observer, Timer.builder("tourni.observers.stage")
+                .description("Time an observer takes to apply a match result")
+                .tag("observer", observer.getClass().getSimpleName())
+                .register(meterRegistry));
+        refreshExecutionOrder(candidateStages);
     }
 
-    public void removeObserver(MatchResultObserver observer) {
+    public synchronized void removeObserver(MatchResultObserver observer) {
         observers.remove(observer);
+        stageTimers.remove(observer);
+        refreshExecutionOrder(resolveStages(observers));
     }
 
-    public void notifyObserversSequentially(AddMatchResultRequest addMatchResultRequest) {
-        for (MatchResultObserver observer : observers) {
+    public void notifyObservers(MatchResultContext matchResultContext) {
+        if (!missingStates.isEmpty()) {
+            throw new IllegalStateException("No match result observer provides " + missingStates);
+        }
+
+        for (List<MatchResultObserver> stage : stages) {
+            List<Future<?>> concurrentUpdates = new ArrayList<>();
+            for (MatchResultObserver observer : stage) {
+                if (!observer.isTransactional()) {
+                    concurrentUpdates.add(observerExecutor.submit(() -> {
+                        notifyObserver(observer, matchResultContext);
+                        return null;
+                    }));
+                }
+            }
+
             try {
-                Future<?> future = executorService.submit(() -> {
-                    try {
-                        logger.info("Notifying observer: {}", observer.getClass().getName());
-                        observer.update(addMatchResultRequest);
-                    } catch (Exception e) {
-                        throw new RuntimeException(e);
+                for (MatchResultObserver observer : stage) {
+                    if (observer.isTransactional()) {
+                        notifyObserver(observer, matchResultContext);
                     }
-                });
-                future.get();
-            } catch (InterruptedException | ExecutionException | RuntimeException e) {
-                throw new RuntimeException("Error while notifying observers s", e);
-            } catch (Exception e) {
-                throw new RuntimeException("Error while notifying observers", e);
+                }
+            } finally {
+                awaitAll(concurrentUpdates);
             }
         }
     }
 
+    /*
+     * Observers in execution order, stage by stage
+     */
+    List<List<MatchResultObserver>> getStages() {
+        return stages;
+    }
 
-}
+    @Override
+    public void destroy() {
+        observerExecutor.shutdown();
+    }
+
+    private void notifyObserver(MatchResultObserver observer, MatchResultContext matchResultContext) {
+        logger.info("Notifying observer: {}", observer.getClass().getName());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            observer.update(matchResultContext);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Error while notifying observers", e);
+        } finally {
+            Timer stageTimer = stageTimers.get(observer);
+            if (stageTimer != null) {
+                sample.stop(stageTimer);
+            }
+        }
+    }
+
+    /*
+     * Waits for every concurrent observer of the stage, rethrows the first failure
+     */
+    private static void awaitAll(List<Future<?>> concurrentUpdates) {
+        RuntimeException failure = null;
+        for (Future<?> concurrentUpdate : concurrentUpdates) {
+            try {
+                concurrentUpdate.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException : new RuntimeException("Error while notifying observers", e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for match result observers", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
+    private void refreshExecutionOrder(List<List<MatchResultObserver>> resolvedStages) {
+        Set<MatchResultState> requiredStates = EnumSet.noneOf(MatchResultState.class);
+        observers.forEach(observer -> requiredStates.addAll(observer.requires()));
+        observers.forEach(observer -> requiredStates.removeAll(observer.provides()));
+
+        stages = resolvedStages;
+        missingStates = Set.copyOf(requiredStates);
+    }
+
+    /*
+     * Topological order of the observers grouped into stages, fails when the dependencies form a cycle
+     */
+    private static List<List<MatchResultObserver>> resolveStages(List<MatchResultObserver> observers) {
+        Map<MatchResultState, List<Integer>> providersByState = new EnumMap<>(MatchResultState.class);
+        for (int i = 0; i < observers.size(); i++) {
+            for (MatchResultState state : observers.get(i).provides()) {
+                providersByState.computeIfAbsent(state, key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        int[] pendingDependencies = new int[observers.size()];
+        List<List<Integer>> dependents = new ArrayList<>();
+        observers.forEach(observer -> dependents.add(new ArrayList<>()));
+
+        for (int i = 0; i < observers.size(); i++) {
+            for (MatchResultState state : observers.get(i).requires()) {
+                List<Integer> providers = providersByState.get(state);
+                if (providers == null) {
+                    // reported by notifyObservers, the provider may not be registered yet
+                    continue;
+                }
+                for (Integer provider : providers) {
+                    if (provider != i) {
+                        dependents.get(provider).add(i);
+                        pendingDependencies[i]++;
+                    }
+                }
+            }
+        }
+
+        // a stage holds every observer that is ready once the previous stages ran, in registration order
+        List<Integer> ready = new ArrayList<>();
+        for (int i = 0; i < observers.size(); i++) {
+            if (pendingDependencies[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        List<List<MatchResultObserver>> stages = new ArrayList<>();
+        Set<Integer> resolved = new HashSet<>();
+        while (!ready.isEmpty()) {
+            List<MatchResultObserver> stage = new ArrayList<>(ready.size());
+            List<Integer> nextReady = new ArrayList<>();
+            for (int index : ready) {
+                stage.add(observers.get(index));
+                resolved.add(index);
+                for (Integer dependent : dependents.get(index)) {
+                    if (--pendingDependencies[dependent] == 0) {
+                        nextReady.add(dependent);
+                    }
+                }
+            }
+            stages.add(List.copyOf(stage));
+            Collections.sort(nextReady);
+            ready = nextReady;
+        }
+
+        if (resolved.size() != observers.size()) {
+            List<String> cyclicObservers = new ArrayList<>();
+            for (int i = 0; i < observers.size(); i++) {
+                if (!resolved.contains(i)) {
+                    cyclicObservers.add(observers.get(i).getClass().getSimpleName());
+                }
+            }
+            throw new IllegalStateException("Match result observers have cyclic dependencies: " + cyclicObservers);
+        }
+
+        return List.copyOf(stages);
+    }
+}
@@ -1,19 +1,17 @@
 package com.tournament.management.observers;
 
 import com.tournament.management.dto.AddMatchResultRequest;
-import com.tournament.management.entity.app.PointsTable;
 import com.tournament.management.entity.app.TeamStats;
 import com.tournament.management.exceptions.InvalidRequestException;
 import com.tournament.management.exceptions.RecordNotFoundException;
 import com.tournament.management.repository.PointsTableRepository;
-import com.tournament.management.repository.TeamStatsRepository;
-import com.tournament.management.utils.ApplicationConstants;
-import com.tournament.management.utils.NetRunRateCalculator;
+import com.tournament.management.standings.MatchResultRules;
+import com.tournament.management.standings.TeamResultDelta;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.Set;
 
 
 @Component
@@ -22,69 +20,48 @@ import java.util.List;
 public class PointsTableObserver implements MatchResultObserver {
     private final PointsTableRepository pointsTableRepository;
 
-    private final TeamStatsRepository teamStatsRepository;
-
     @Override
-    public void update(AddMatchResultRequest matchResultRequest) throws RecordNotFoundException, InvalidRequestException {
-
-        log.info("Updating points table for match result: {} {}", matchResultRequest.getTeamOneId(), matchResultRequest.getTeamTwoId());
-
-        final long tournamentId = matchResultRequest.getTournamentId();
-        final long teamOneId = matchResultRequest.getTeamOneId();
-        final long teamTwoId = matchResultRequest.getTeamTwoId();
-
-        TeamStats teamOneStats = teamStatsRepository.findByTeamIdAndTournamentId(teamOneId, tournamentId).orElseThrow(() -> new RecordNotFoundException("No stats found with teamId:" + teamOneId + "and tournamentId: " + tournamentId));
-
-        TeamStats teamTwoStats = teamStatsRepository.findByTeamIdAndTournamentId(teamTwoId, tournamentId).orElseThrow(() -> new RecordNotFoundException("No stats found with teamId:" + teamTwoId + "and tournamentId: " + tournamentId));
-
-        // update points table
-        PointsTable teamOneMatchStats = pointsTableRepository.findByTeamIdAndTournamentId(teamOneId, tournamentId).orElseThrow(() -> new RecordNotFoundException("No points record found with teamId:" + teamOneId + "and tournamentId: " + tournamentId));
-        PointsTable teamTwoMatchStats = pointsTableRepository.findByTeamIdAndTournamentId(teamTwoId, tournamentId).orElseThrow(() -> new RecordNotFoundException("No points record found with teamId:" + teamTwoId + "and tournamentId: " + tournamentId));
-
-        teamOneMatchStats.setPlayed(teamOneMatchStats.getPlayed() + 1);
-        teamTwoMatchStats.setPlayed(teamTwoMatchStats.getPlayed() + 1);
-        // JPA Auditing will automatically update recordUpdatedDate and recordUpdatedBy
-
-        final double netRunRateTeamOne = NetRunRateCalculator.calculateNetRunRate(teamOneStats.getTotalRunsScored(), teamOneStats.getTotalTeamOversPlayed(), teamOneStats.getTotalRunsConceded(), teamOneStats.getTotalOversBowled());
-        final double netRunRateTeamTwo = NetRunRateCalculator.calculateNetRunRate(teamTwoStats.getTotalRunsScored(), teamTwoStats.getTotalTeamOversPlayed(), teamTwoStats.getTotalRunsConceded(), teamTwoStats.getTotalOversBowled());
-
-        if (matchResultRequest.getMatchResultStatus() == ApplicationConstants.MatchResultStatus.COMPLETED) {
-
-            long winnerTeamId = matchResultRequest.getWinnerTeamId();
-
-            if (winnerTeamId == teamOneId) {
+    public Set<MatchResultState> requires() {
+        return Set.of(MatchResultState.TEAM_STATS_TOTALS);
+    }
 
-                teamOneMatchStats.setWon(teamOneMatchStats.getWon() + 1);
-                teamOneMatchStats.setPoints(teamOneMatchStats.getPoints() + ApplicationConstants.NO_POINTS_FOR_WIN);
+    @Override
+    public Set<MatchResultState> provides() {
+        return Set.of(MatchResultState.POINTS_TABLE);
+    }
 
-                teamTwoMatchStats.setLost(teamTwoMatchStats.getLost() + 1);
+    @Override
+    public void update(MatchResultContext matchResultContext) throws RecordNotFoundException, InvalidRequestException {
 
-            } else if (winnerTeamId == teamTwoId) {
+        AddMatchResultRequest matchResultRequest = matchResultContext.getMatchResultRequest();
 
-                teamTwoMatchStats.setWon(teamTwoMatchStats.getWon() + 1);
-                teamTwoMatchStats.setPoints(teamTwoMatchStats.getPoints() + ApplicationConstants.NO_POINTS_FOR_WIN);
+        log.info("Updating points table for match result: {} {}", matchResultRequest.getTeamOneId(), matchResultRequest.getTeamTwoId());
 
-                teamOneMatchStats.setLost(teamOneMatchStats.getLost() + 1);
+        final long tournamentId = matchResultRequest.getTournamentId();
 
+        TeamResultDelta[] deltas = MatchResultRules.computePointsDeltas(matchResultRequest);
+
+        for (TeamResultDelta delta : deltas) {
+            // team stats in the context already include this match, provided by TeamStatsObserver
+            Double netRunRate = null;
+            if (delta.isUpdatesNetRunRate()) {
+                TeamStats teamStats = matchResultContext.getTeamStatsByTeamId().get(delta.getTeamId());
+                if (teamStats == null) {
+                    throw new RecordNotFoundException("No stats found with teamId:" + delta.getTeamId() + "and tournamentId: " + tournamentId);
+                }
+                netRunRate = MatchResultRules.netRunRateOf(teamStats);
             }
 
-            teamOneMatchStats.setNetMatchRate(netRunRateTeamOne);
-            teamTwoMatchStats.setNetMatchRate(netRunRateTeamTwo);
-
-        } else if (matchResultRequest.getMatchResultStatus() == ApplicationConstants.MatchResultStatus.TIED) {
-            teamOneMatchStats.setTied(teamOneMatchStats.getTied() + 1);
-            teamTwoMatchStats.setTied(teamTwoMatchStats.getTied() + 1);
+            int updatedRows = pointsTableRepository.incrementResult(tournamentId, delta.getTeamId(),
+                    delta.getPlayed(), delta.getWon(), delta.getLost(), delta.getTied(), delta.getNoResult(), delta.getPoints(),
+                    netRunRate, matchResultContext.getUpdatedDate(), matchResultContext.getUpdatedBy());
 
-            teamOneMatchStats.setNetMatchRate(netRunRateTeamOne);
-            teamTwoMatchStats.setNetMatchRate(netRunRateTeamTwo);
-        } else if (matchResultRequest.getMatchResultStatus() == com.tournament.management.utils.ApplicationConstants.MatchResultStatus.NO_RESULT) {
-            teamOneMatchStats.setNoResult(teamOneMatchStats.getNoResult() + 1);
-            teamTwoMatchStats.setNoResult(teamTwoMatchStats.getNoResult() + 1);
+            if (updatedRows == 0) {
+                throw new RecordNotFoundException("No points record found with teamId:" + delta.getTeamId() + "and tournamentId: " + tournamentId);
+            }
         }
 
-        pointsTableRepository.saveAll(List.of(teamOneMatchStats, teamTwoMatchStats));
-
-        log.info("Points table updated successfully for teamId: {} and teamId: {}", teamOneId, teamTwoId);
+        log.info("Points table updated successfully for teamId: {} and teamId: {}", matchResultRequest.getTeamOneId(), matchResultRequest.getTeamTwoId());
 
     }
 }
@@ -2,75 +2,62 @@ package com.tournament.management.observers;
 
 import com.tournament.management.dto.AddMatchResultRequest;
 import com.tournament.management.entity.app.TeamStats;
-import com.tournament.management.entity.app.Tournament;
 import com.tournament.management.exceptions.RecordNotFoundException;
 import com.tournament.management.repository.TeamStatsRepository;
-import com.tournament.management.repository.TournamentRepository;
-import com.tournament.management.utils.ApplicationConstants;
-import com.tournament.management.utils.NetRunRateCalculator;
+import com.tournament.management.standings.MatchResultRules;
+import com.tournament.management.standings.TeamResultDelta;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class TeamStatsObserver implements MatchResultObserver {
     private final TeamStatsRepository teamStatsRepository;
-    private final TournamentRepository tournamentRepository;
 
     private static final Logger logger = (Logger) LoggerFactory.getLogger(TeamStatsObserver.class);
 
     @Override
-    public void update(AddMatchResultRequest matchResult) throws RecordNotFoundException {
-
-        logger.info("Updating team stats for match result: {} {}", matchResult.getTeamOneId(), matchResult.getTeamTwoId());
-
-        final long tournamentId = matchResult.getTournamentId();
-        final long teamOneId = matchResult.getTeamOneId();
-        final long teamTwoId = matchResult.getTeamTwoId();
+    public Set<MatchResultState> provides() {
+        return Set.of(MatchResultState.TEAM_STATS_TOTALS);
+    }
 
-        Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow(() -> new RecordNotFoundException("No tournament not found for given id : " + tournamentId));
+    @Override
+    public void update(MatchResultContext matchResultContext) throws RecordNotFoundException {
 
-        TeamStats teamOneStats = teamStatsRepository.findByTeamIdAndTournamentId(teamOneId, tournamentId).orElseThrow(() -> new RecordNotFoundException("No stats found with teamId :" + teamOneId + "and tournamentId: " + tournamentId));
+        AddMatchResultRequest matchResult = matchResultContext.getMatchResultRequest();
 
-        TeamStats teamTwoStats = teamStatsRepository.findByTeamIdAndTournamentId(teamTwoId, tournamentId).orElseThrow(() -> new RecordNotFoundException("No stats found with teamId :" + teamTwoId + "and tournamentId: " + tournamentId));
+        logger.info("Updating team stats for match result: {} {}", matchResult.getTeamOneId(), matchResult.getTeamTwoId());
 
-        if (matchResult.getMatchResultStatus() != ApplicationConstants.MatchResultStatus.NO_RESULT) {
+        if (MatchResultRules.updatesTeamStats(matchResult.getMatchResultStatus())) {
             // update team stats
-            int teamOneScore = matchResult.getTeamOneScore();
-            int teamOneWickets = matchResult.getTeamOneWickets();
-
-            double teamOneOversPlayed = matchResult.getTeamOneOversPlayed();
-            teamOneOversPlayed = NetRunRateCalculator.adjustOversPlayed(teamOneOversPlayed, tournament.getMaximumOversPerMatch(), teamOneWickets);
-
-            int teamTwoScore = matchResult.getTeamTwoScore();
-            int teamTwoWickets = matchResult.getTeamTwoWickets();
+            TeamResultDelta[] deltas = MatchResultRules.computeDeltas(matchResult, matchResultContext.getTournament().getMaximumOversPerMatch());
 
-            double teamTwoOversPlayed = matchResult.getTeamTwoOversPlayed();
-            teamTwoOversPlayed = NetRunRateCalculator.adjustOversPlayed(teamTwoOversPlayed, tournament.getMaximumOversPerMatch(), teamTwoWickets);
+            final long tournamentId = matchResult.getTournamentId();
 
-            teamOneStats.setTotalRunsScored(teamOneStats.getTotalRunsScored() + teamOneScore);
-            teamOneStats.setTotalTeamOversPlayed(teamOneStats.getTotalTeamOversPlayed() + teamOneOversPlayed);
-            teamOneStats.setTotalRunsConceded(teamOneStats.getTotalRunsConceded() + teamTwoScore);
-            teamOneStats.setTotalOversBowled(teamOneStats.getTotalOversBowled() + teamTwoOversPlayed);
-            // JPA Auditing will automatically update recordUpdatedDate and recordUpdatedBy
+            for (TeamResultDelta delta : deltas) {
+                int updatedRows = teamStatsRepository.incrementTotals(tournamentId, delta.getTeamId(),
+                        delta.getRunsScored(), delta.getBallsFaced(), delta.getRunsConceded(), delta.getBallsBowled(),
+                        matchResultContext.getUpdatedDate(), matchResultContext.getUpdatedBy());
 
-            teamTwoStats.setTotalRunsScored(teamTwoStats.getTotalRunsScored() + teamTwoScore);
-            teamTwoStats.setTotalTeamOversPlayed(teamTwoStats.getTotalTeamOversPlayed() + teamTwoOversPlayed);
-            teamTwoStats.setTotalRunsConceded(teamTwoStats.getTotalRunsConceded() + teamOneScore);
-            teamTwoStats.setTotalOversBowled(teamTwoStats.getTotalOversBowled() + teamOneOversPlayed);
-            // JPA Auditing will automatically update recordUpdatedDate and recordUpdatedBy
+                if (updatedRows == 0) {
+                    throw new RecordNotFoundException("No stats found with teamId :" + delta.getTeamId() + "and tournamentId: " + tournamentId);
+                }
+            }
 
-            teamStatsRepository.saveAll(List.of(teamOneStats, teamTwoStats));
+            // totals after this result, read back once for the net run rate
+            matchResultContext.setTeamStatsByTeamId(teamStatsRepository.findByTournamentIdAndTeamIdIn(tournamentId, List.of(matchResult.getTeamOneId(), matchResult.getTeamTwoId())).stream()
+                    .collect(Collectors.toMap(TeamStats::getTeamId, Function.identity())));
 
-            logger.info("Team stats updated successfully for team one id: {} and team two id: {}", teamOneId, teamTwoId);
+            logger.info("Team stats updated successfully for team one id: {} and team two id: {}", matchResult.getTeamOneId(), matchResult.getTeamTwoId());
 
         }
 
-
     }
 }
-
@@ -0,0 +1,48 @@
+package com.tournament.management.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Keeps the most recent messages in memory. Default sink for single instance deployments and tests.
+ *
+ * Messages are kept by event id. Event ids are assigned at insert but stripes commit concurrently, so a message
+ * can arrive after one with a higher id; redeliveries are recognised by their id, not by the order of arrival.
+ */
+@Component
+@ConditionalOnProperty(name = "tourni.outbox.sink", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryOutboxEventSink implements OutboxEventSink {
+
+    private final int capacity;
+
+    // guarded by this
+    private final NavigableMap<Long, OutboxMessage> messagesByEventId = new TreeMap<>();
+
+    public InMemoryOutboxEventSink(@Value("${tourni.outbox.in-memory-capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> published) {
+        for (OutboxMessage message : published) {
+            // a redelivered message is already here
+            if (messagesByEventId.putIfAbsent(message.getEventId(), message) == null && messagesByEventId.size() > capacity) {
+                messagesByEventId.pollFirstEntry();
+            }
+        }
+    }
+
+    /*
+     * Messages with an event id after afterEventId, in event id order
+     */
+    public synchronized List<OutboxMessage> getMessagesAfter(long afterEventId, int limit) {
+        return messagesByEventId.tailMap(afterEventId, false).values().stream()
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.tournament.management.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournament.management.config.TourniOutboxProperties;
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.MatchResultOutboxEvent;
+import com.tournament.management.repository.MatchResultOutboxRepository;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes match result changes to match_result_outbox. Must run in the transaction that makes the change,
+ * so an event exists exactly when its change was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchResultOutbox {
+
+    private final MatchResultOutboxRepository matchResultOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final TourniOutboxProperties tourniOutboxProperties;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(MatchResultEventType eventType, AddMatchResultRequest matchResultRequest) {
+        recordAll(eventType, List.of(matchResultRequest));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(MatchResultEventType eventType, List<AddMatchResultRequest> matchResultRequests) {
+        if (!tourniOutboxProperties.isEnabled()) {
+            return;
+        }
+
+        matchResultOutboxRepository.saveAll(matchResultRequests.stream()
+                .map(matchResultRequest -> toOutboxEvent(eventType, matchResultRequest))
+                .toList());
+    }
+
+    private MatchResultOutboxEvent toOutboxEvent(MatchResultEventType eventType, AddMatchResultRequest matchResultRequest) {
+        MatchResultOutboxEvent outboxEvent = new MatchResultOutboxEvent();
+        outboxEvent.setTournamentId(matchResultRequest.getTournamentId());
+        outboxEvent.setMatchNumber(matchResultRequest.getMatchNumber().longValue());
+        outboxEvent.setEventType(eventType.name());
+        outboxEvent.setPayload(toJson(matchResultRequest));
+        outboxEvent.setActive(true);
+        return outboxEvent;
+    }
+
+    private String toJson(AddMatchResultRequest matchResultRequest) {
+        try {
+            return objectMapper.writeValueAsString(matchResultRequest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to write match result to the outbox: " + e.getOriginalMessage(), e);
+        }
+    }
+}
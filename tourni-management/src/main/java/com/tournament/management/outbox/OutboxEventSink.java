@@ -0,0 +1,12 @@
+package com.tournament.management.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of the match result change feed. Messages arrive in event id order and are delivered at least once,
+ * a batch is handed over again when publish throws or the instance stops before the batch is marked published.
+ */
+public interface OutboxEventSink {
+
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,28 @@
+package com.tournament.management.outbox;
+
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A match result change as handed to an OutboxEventSink. eventId grows with every change,
+ * matchNumber is null for changes of several results.
+ */
+@Getter
+@AllArgsConstructor
+public class OutboxMessage {
+
+    private final long eventId;
+
+    private final long tournamentId;
+
+    private final Long matchNumber;
+
+    private final MatchResultEventType eventType;
+
+    private final String payload;
+
+    private final LocalDateTime createdDate;
+}
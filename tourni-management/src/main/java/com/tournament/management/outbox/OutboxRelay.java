@@ -0,0 +1,117 @@
+package com.tournament.management.outbox;
+
+import com.tournament.management.config.TourniOutboxProperties;
+import com.tournament.management.entity.app.MatchResultOutboxEvent;
+import com.tournament.management.repository.MatchResultOutboxRepository;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Publishes match_result_outbox events to the OutboxEventSink in batches, in event id order.
+ *
+ * A batch is locked, handed to the sink and marked published in one transaction. When the sink fails or the
+ * instance stops before the commit, the batch stays unpublished and is handed over again (at least once).
+ * Relays of other instances wait for the lock instead of skipping ahead, so events of a tournament, which
+ * are written one after the other on its write stripe, reach the sink in the order they were recorded.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final MatchResultOutboxRepository matchResultOutboxRepository;
+    private final OutboxEventSink outboxEventSink;
+    private final TourniOutboxProperties tourniOutboxProperties;
+    private final DateTimeProvider auditingDateTimeProvider;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+
+    public OutboxRelay(MatchResultOutboxRepository matchResultOutboxRepository,
+                       OutboxEventSink outboxEventSink,
+                       TourniOutboxProperties tourniOutboxProperties,
+                       DateTimeProvider auditingDateTimeProvider,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.matchResultOutboxRepository = matchResultOutboxRepository;
+        this.outboxEventSink = outboxEventSink;
+        this.tourniOutboxProperties = tourniOutboxProperties;
+        this.auditingDateTimeProvider = auditingDateTimeProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.publishedCounter = Counter.builder("tourni.outbox.published")
+                .description("Outbox events handed to the sink")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("tourni.outbox.failed")
+                .description("Outbox batches the sink failed on, retried on the next poll")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("tourni.outbox.lag")
+                .description("Time from writing an outbox event to publishing it")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${tourni.outbox.poll-interval-ms:500}")
+    public void relay() {
+        if (!tourniOutboxProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == tourniOutboxProperties.getBatchSize());
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.error("Unable to publish match result outbox events", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tourni.outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        LocalDateTime publishedBefore = now().minus(tourniOutboxProperties.getRetention());
+        Integer deleted = transactionTemplate.execute(status -> matchResultOutboxRepository.deletePublishedBefore(publishedBefore));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} published outbox events older than {}", deleted, publishedBefore);
+        }
+    }
+
+    private int publishBatch() {
+        List<MatchResultOutboxEvent> outboxEvents = matchResultOutboxRepository.lockUnpublished(tourniOutboxProperties.getBatchSize());
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        outboxEventSink.publish(outboxEvents.stream().map(OutboxRelay::toMessage).toList());
+
+        LocalDateTime publishedDate = now();
+        matchResultOutboxRepository.markPublished(outboxEvents.stream().map(MatchResultOutboxEvent::getEventId).toList(), publishedDate);
+
+        publishedCounter.increment(outboxEvents.size());
+        outboxEvents.forEach(outboxEvent -> lagTimer.record(Duration.between(outboxEvent.getRecordCreatedDate(), publishedDate)));
+
+        return outboxEvents.size();
+    }
+
+    private LocalDateTime now() {
+        return auditingDateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now);
+    }
+
+    private static OutboxMessage toMessage(MatchResultOutboxEvent outboxEvent) {
+        return new OutboxMessage(outboxEvent.getEventId(), outboxEvent.getTournamentId(), outboxEvent.getMatchNumber(),
+                MatchResultEventType.valueOf(outboxEvent.getEventType()), outboxEvent.getPayload(), outboxEvent.getRecordCreatedDate());
+    }
+}
@@ -0,0 +1,13 @@
+package com.tournament.management.repository;
+
+import com.tournament.management.entity.app.MatchResultHistory;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+@Observed
+public interface MatchResultHistoryRepository extends JpaRepository<MatchResultHistory, Long> {
+
+    List<MatchResultHistory> findByTournamentIdAndMatchNumberOrderByHistoryIdDesc(long tournamentId, long matchNumber);
+}
@@ -0,0 +1,35 @@
+package com.tournament.management.repository;
+
+import com.tournament.management.entity.app.MatchResultOutboxEvent;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Observed
+public interface MatchResultOutboxRepository extends JpaRepository<MatchResultOutboxEvent, Long> {
+
+    /**
+     * Oldest unpublished events, locked until the transaction ends. A relay on another instance waits here
+     * instead of skipping ahead, so events are published in event id order.
+     */
+    @Query(value = "SELECT * FROM match_result_outbox WHERE published_date IS NULL ORDER BY event_id LIMIT :batchSize FOR UPDATE",
+            nativeQuery = true)
+    List<MatchResultOutboxEvent> lockUnpublished(@Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("UPDATE MatchResultOutboxEvent e SET e.publishedDate = :publishedDate WHERE e.eventId IN :eventIds")
+    int markPublished(@Param("eventIds") Collection<Long> eventIds, @Param("publishedDate") LocalDateTime publishedDate);
+
+    @Modifying
+    @Query("DELETE FROM MatchResultOutboxEvent e WHERE e.publishedDate < :publishedBefore")
+    int deletePublishedBefore(@Param("publishedBefore") LocalDateTime publishedBefore);
+
+    @Query("SELECT COUNT(e) FROM MatchResultOutboxEvent e WHERE e.publishedDate IS NULL")
+    long countUnpublished();
+}
@@ -2,8 +2,41 @@ package com.tournament.management.repository;
 
 import com.tournament.management.entity.app.MatchResult;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Observed
 public interface MatchResultRepository extends JpaRepository<MatchResult, Long> {
+
+    boolean existsByTournamentIdAndMatchNumber(long tournamentId, long matchNumber);
+
+    /**
+     * Locks the result until the transaction ends, so a correction and a deletion of the same match cannot
+     * both reverse the same recorded values.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MatchResult> findForUpdateByTournamentIdAndMatchNumber(long tournamentId, long matchNumber);
+
+    /**
+     * Streams active results ordered by tournament and match number. MySQL Connector/J only streams rows
+     * instead of buffering the whole result set with fetch size Integer.MIN_VALUE.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT m FROM MatchResult m WHERE m.isActive = true AND (:tournamentId IS NULL OR m.tournamentId = :tournamentId) " +
+            "ORDER BY m.tournamentId, m.matchNumber")
+    Stream<MatchResult> streamActiveMatchResults(@Param("tournamentId") Long tournamentId);
+
+    @Query("SELECT COUNT(m) FROM MatchResult m WHERE m.isActive = true AND m.tournamentId = :tournamentId")
+    long countActiveMatchResults(@Param("tournamentId") long tournamentId);
 }
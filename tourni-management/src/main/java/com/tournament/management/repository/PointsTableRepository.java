@@ -1,16 +1,68 @@
 package com.tournament.management.repository;
 
+import com.tournament.management.dto.PointsTableDTO;
 import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.repository.projection.TableVersion;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Observed
 public interface PointsTableRepository extends JpaRepository<PointsTable, Long> {
 
     Optional<PointsTable> findByTeamIdAndTournamentId(long teamOneId, long tournamentId);
 
+    // read only, standings are changed with the increments below
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
     Optional<List<PointsTable>> findByTournamentId(long tournamentId);
+
+    List<PointsTable> findByTournamentIdAndTeamIdIn(long tournamentId, Collection<Long> teamIds);
+
+    /**
+     * Reads the points table of a tournament together with the team names in a single statement,
+     * sorted by points and net run rate.
+     */
+    @Query("SELECT new com.tournament.management.dto.PointsTableDTO(t.teamName, p.played, p.won, p.lost, p.tied, p.noResult, p.points, p.netMatchRate) " +
+            "FROM PointsTable p JOIN Team t ON t.teamId = p.teamId " +
+            "WHERE p.tournamentId = :tournamentId AND t.isActive = true " +
+            "ORDER BY p.points DESC, p.netMatchRate DESC")
+    List<PointsTableDTO> findPointsTableDTOsByTournamentId(@Param("tournamentId") long tournamentId);
+
+    /**
+     * Adds a match to the team's row in the database. netRunRate is left unchanged when null.
+     * Returns the number of updated rows, 0 when the team has no points record in the tournament.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PointsTable p SET p.played = p.played + :played, p.won = p.won + :won, p.lost = p.lost + :lost, " +
+            "p.tied = p.tied + :tied, p.noResult = p.noResult + :noResult, p.points = p.points + :points, " +
+            "p.netMatchRate = COALESCE(:netRunRate, p.netMatchRate), " +
+            "p.version = COALESCE(p.version, 0) + 1, p.recordUpdatedDate = :updatedDate, p.recordUpdatedBy = :updatedBy " +
+            "WHERE p.tournamentId = :tournamentId AND p.teamId = :teamId")
+    int incrementResult(@Param("tournamentId") long tournamentId,
+                        @Param("teamId") long teamId,
+                        @Param("played") int played,
+                        @Param("won") int won,
+                        @Param("lost") int lost,
+                        @Param("tied") int tied,
+                        @Param("noResult") int noResult,
+                        @Param("points") int points,
+                        @Param("netRunRate") Double netRunRate,
+                        @Param("updatedDate") LocalDateTime updatedDate,
+                        @Param("updatedBy") String updatedBy);
+
+    @Query("SELECT COUNT(p) AS rowCount, COALESCE(SUM(p.version), 0) AS versionSum " +
+            "FROM PointsTable p JOIN Team t ON t.teamId = p.teamId " +
+            "WHERE p.tournamentId = :tournamentId AND t.isActive = true")
+    TableVersion getPointsTableVersion(@Param("tournamentId") long tournamentId);
 }
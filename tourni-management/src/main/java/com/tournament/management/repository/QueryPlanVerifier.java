@@ -0,0 +1,97 @@
+package com.tournament.management.repository;
+
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.entity.app.TeamToTournamentMapping;
+import com.tournament.management.entity.app.Tournament;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs EXPLAIN on the SQL of the hot repository lookups at startup, enabled with tourni.query-plans.verify=true.
+ *
+ * Each lookup must be able to use its index from V7__hot_query_indexes.sql, V8__tournament_listing_indexes.sql
+ * (or the unique key of V2). A lookup without it, or one that cannot be explained, fails the startup.
+ * The index only has to be a candidate: on small tables MySQL may still prefer a scan.
+ */
+@Component
+@ConditionalOnProperty(name = "tourni.query-plans.verify", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class QueryPlanVerifier {
+
+    private static final List<ExpectedPlan> EXPECTED_PLANS = List.of(
+            new ExpectedPlan("PointsTableRepository.findByTeamIdAndTournamentId",
+                    "SELECT * FROM points_table WHERE team_id = 1 AND tournament_id = 1", PointsTable.UNIQUE_TOURNAMENT_TEAM),
+            new ExpectedPlan("PointsTableRepository.findByTournamentId",
+                    "SELECT * FROM points_table WHERE tournament_id = 1", PointsTable.UNIQUE_TOURNAMENT_TEAM),
+            new ExpectedPlan("TeamStatsRepository.findByTeamIdAndTournamentId",
+                    "SELECT * FROM team_stats WHERE team_id = 1 AND tournament_id = 1", TeamStats.UNIQUE_TOURNAMENT_TEAM),
+            new ExpectedPlan("TeamStatsRepository.findByTournamentId",
+                    "SELECT * FROM team_stats WHERE tournament_id = 1", TeamStats.UNIQUE_TOURNAMENT_TEAM),
+            new ExpectedPlan("TeamToTournamentMappingRepository.findTeamDTOsByTournamentId",
+                    "SELECT team_id FROM team_to_tournament_mapping WHERE tournament_id = 1 AND is_active = true AND team_id > 0 ORDER BY team_id LIMIT 101",
+                    TeamToTournamentMapping.TOURNAMENT_INDEX),
+            new ExpectedPlan("TournamentRepository.findTournamentDTOs by type and year",
+                    "SELECT tournament_id, tournament_name FROM tournament WHERE tournament_id > 0 AND tournament_type_id = 1 AND tournament_year = 2024 " +
+                            "ORDER BY tournament_id LIMIT 101", Tournament.TYPE_YEAR_INDEX),
+            new ExpectedPlan("TournamentRepository.findTournamentDTOs by year",
+                    "SELECT tournament_id, tournament_name FROM tournament WHERE tournament_id > 0 AND tournament_year = 2024 " +
+                            "ORDER BY tournament_id LIMIT 101", Tournament.YEAR_INDEX),
+            new ExpectedPlan("MatchResultRepository.existsByTournamentIdAndMatchNumber",
+                    "SELECT match_id FROM match_result WHERE tournament_id = 1 AND match_number = 1", MatchResult.UNIQUE_MATCH_NUMBER),
+            new ExpectedPlan("MatchResultRepository.countActiveMatchResults",
+                    "SELECT COUNT(*) FROM match_result WHERE is_active = true AND tournament_id = 1", MatchResult.UNIQUE_MATCH_NUMBER)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        List<String> lookupsWithoutIndex = new ArrayList<>();
+
+        for (ExpectedPlan expectedPlan : EXPECTED_PLANS) {
+            try {
+                if (!usesIndex(expectedPlan)) {
+                    lookupsWithoutIndex.add(expectedPlan.lookup());
+                }
+            } catch (RuntimeException e) {
+                log.error("Unable to explain {}", expectedPlan.lookup(), e);
+                lookupsWithoutIndex.add(expectedPlan.lookup());
+            }
+        }
+
+        if (!lookupsWithoutIndex.isEmpty()) {
+            throw new IllegalStateException("Lookups without their index, apply the db/migration scripts: " + lookupsWithoutIndex);
+        }
+        log.info("Query plans verified, {} lookups can use their index", EXPECTED_PLANS.size());
+    }
+
+    private boolean usesIndex(ExpectedPlan expectedPlan) {
+        for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + expectedPlan.sql())) {
+            Object key = row.get("key");
+            Object possibleKeys = row.get("possible_keys");
+
+            if (expectedPlan.index().equals(key)
+                    || possibleKeys != null && Arrays.asList(possibleKeys.toString().split(",")).contains(expectedPlan.index())) {
+                return true;
+            }
+            log.warn("{} does not use {}, plan: {}", expectedPlan.lookup(), expectedPlan.index(), row);
+        }
+        return false;
+    }
+
+    private record ExpectedPlan(String lookup, String sql, String index) {
+    }
+}
@@ -2,19 +2,26 @@ package com.tournament.management.repository;
 
 import com.tournament.management.entity.app.Team;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Observed
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     @Query("SELECT t.teamName FROM Team t WHERE t.teamId = :teamId AND t.isActive = true")
     Optional<String> findTeamNameByTeamId(@Param("teamId") Long teamId);
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
     @Query("SELECT t FROM Team t WHERE t.teamId IN :teamIds AND t.isActive = true")
     Optional<List<Team>> findTeamsByTeamIds(@Param("teamIds") List<Long> teamIds);
 
@@ -2,12 +2,48 @@ package com.tournament.management.repository;
 
 import com.tournament.management.entity.app.TeamStats;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Observed
 public interface TeamStatsRepository extends JpaRepository<TeamStats, Long> {
 
     Optional<TeamStats> findByTeamIdAndTournamentId(long teamId, long tournamentId);
+
+    // read only, standings are changed with the increments below
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<TeamStats> findByTournamentId(long tournamentId);
+
+    List<TeamStats> findByTournamentIdAndTeamIdIn(long tournamentId, Collection<Long> teamIds);
+
+    /**
+     * Adds a match to the team's totals in the database, concurrent results for the same team cannot overwrite each other.
+     * Returns the number of updated rows, 0 when the team has no stats in the tournament.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE TeamStats s SET s.totalRunsScored = s.totalRunsScored + :runsScored, " +
+            "s.totalBallsFaced = s.totalBallsFaced + :ballsFaced, " +
+            "s.totalRunsConceded = s.totalRunsConceded + :runsConceded, " +
+            "s.totalBallsBowled = s.totalBallsBowled + :ballsBowled, " +
+            "s.version = COALESCE(s.version, 0) + 1, s.recordUpdatedDate = :updatedDate, s.recordUpdatedBy = :updatedBy " +
+            "WHERE s.tournamentId = :tournamentId AND s.teamId = :teamId")
+    int incrementTotals(@Param("tournamentId") long tournamentId,
+                        @Param("teamId") long teamId,
+                        @Param("runsScored") int runsScored,
+                        @Param("ballsFaced") int ballsFaced,
+                        @Param("runsConceded") int runsConceded,
+                        @Param("ballsBowled") int ballsBowled,
+                        @Param("updatedDate") LocalDateTime updatedDate,
+                        @Param("updatedBy") String updatedBy);
 }
@@ -1,17 +1,38 @@
 package com.tournament.management.repository;
 
+import com.tournament.management.dto.TeamDTO;
 import com.tournament.management.entity.app.TeamToTournamentMapping;
+import com.tournament.management.repository.projection.TableVersion;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
 @Observed
 public interface TeamToTournamentMappingRepository extends JpaRepository<TeamToTournamentMapping, Long> {
 
-    @Query("SELECT t.teamId FROM TeamToTournamentMapping t WHERE t.tournamentId = :tournamentId AND t.isActive = true")
-    Optional<List<Long>> getTeamIdsByTournamentId(@Param("tournamentId") Long tournamentId);
+    /**
+     * Reads the active teams of a tournament after the given team id in id order, with only the columns of TeamDTO.
+     * The range is read from idx_team_to_tournament_mapping_tournament.
+     */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.tournament.management.dto.TeamDTO(t.teamId, t.teamName) " +
+            "FROM TeamToTournamentMapping m JOIN Team t ON t.teamId = m.teamId " +
+            "WHERE m.tournamentId = :tournamentId AND m.isActive = true AND m.teamId > :afterTeamId AND t.isActive = true " +
+            "ORDER BY m.teamId")
+    List<TeamDTO> findTeamDTOsByTournamentId(@Param("tournamentId") Long tournamentId,
+                                             @Param("afterTeamId") long afterTeamId,
+                                             Pageable pageable);
+
+    @Query("SELECT COUNT(m) AS rowCount, COALESCE(SUM(m.version), 0) + COALESCE(SUM(t.version), 0) AS versionSum " +
+            "FROM TeamToTournamentMapping m JOIN Team t ON t.teamId = m.teamId " +
+            "WHERE m.tournamentId = :tournamentId AND m.isActive = true")
+    TableVersion getTeamsVersion(@Param("tournamentId") Long tournamentId);
 }
@@ -1,10 +1,41 @@
 package com.tournament.management.repository;
 
 
+import com.tournament.management.dto.TournamentDTO;
 import com.tournament.management.entity.app.Tournament;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Observed
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT t FROM Tournament t WHERE t.isActive = true")
+    List<Tournament> findActiveTournaments();
+
+    /**
+     * Reads the tournaments after the given id in id order, null filters match every tournament.
+     * Filters by type and year are served by idx_tournament_type_year and idx_tournament_year.
+     */
+    @Query("SELECT new com.tournament.management.dto.TournamentDTO(t.tournamentId, t.tournamentName) FROM Tournament t " +
+            "WHERE t.tournamentId > :afterTournamentId " +
+            "AND (:tournamentTypeId IS NULL OR t.tournamentTypeId = :tournamentTypeId) " +
+            "AND (:tournamentYear IS NULL OR t.tournamentYear = :tournamentYear) " +
+            "AND (:active IS NULL OR t.isActive = :active) " +
+            "ORDER BY t.tournamentId")
+    List<TournamentDTO> findTournamentDTOs(@Param("afterTournamentId") long afterTournamentId,
+                                           @Param("tournamentTypeId") Long tournamentTypeId,
+                                           @Param("tournamentYear") Integer tournamentYear,
+                                           @Param("active") Boolean active,
+                                           Pageable pageable);
 }
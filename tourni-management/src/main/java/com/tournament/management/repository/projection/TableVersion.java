@@ -0,0 +1,12 @@
+package com.tournament.management.repository.projection;
+
+/**
+ * Number of rows backing a response and the sum of their optimistic locking versions.
+ * Every update of a row bumps its version, so the pair changes whenever the response would.
+ */
+public interface TableVersion {
+
+    long getRowCount();
+
+    long getVersionSum();
+}
@@ -10,6 +10,9 @@ public class SecurityConstants {
     public static final String USER_HEADER = "X-User-Username";
     public static final String ROLES_HEADER = "X-User-Roles";
     public static final String EMAIL_HEADER = "X-User-Email";
+
+    // Shared secret of calls between instances of this service (not set by gateway)
+    public static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
     
     // Role definitions
     public static final String ROLE_ADMIN = "ADMIN";
@@ -0,0 +1,30 @@
+package com.tournament.management.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers work that must only follow committed data (in-memory standings, caches, events) to the end of the transaction.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /*
+     * Runs the action right away when there is no transaction
+     */
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
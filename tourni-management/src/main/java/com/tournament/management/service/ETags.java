@@ -0,0 +1,24 @@
+package com.tournament.management.service;
+
+import com.tournament.management.repository.projection.TableVersion;
+
+/**
+ * ETags of the cached read endpoints, built from the row count and version sum of the rows behind the response.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String pointsTable(Long tournamentId, TableVersion tableVersion) {
+        return of("pointstable", tournamentId, tableVersion);
+    }
+
+    static String teams(Long tournamentId, TableVersion tableVersion) {
+        return of("teams", tournamentId, tableVersion);
+    }
+
+    private static String of(String resource, Long tournamentId, TableVersion tableVersion) {
+        return "\"" + resource + "-" + tournamentId + "-" + tableVersion.getRowCount() + "-" + tableVersion.getVersionSum() + "\"";
+    }
+}
@@ -0,0 +1,115 @@
+package com.tournament.management.service;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.exceptions.RecordNotFoundException;
+import com.tournament.management.mappers.TournamentManagementMappers;
+import com.tournament.management.outbox.MatchResultOutbox;
+import com.tournament.management.repository.MatchResultRepository;
+import com.tournament.management.repository.TeamStatsRepository;
+import com.tournament.management.standings.MatchResultRules;
+import com.tournament.management.standings.TeamResultDelta;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Saves many results of one tournament in a single transaction. Deltas are summed per team first,
+ * so each team's team_stats and points_table row is updated once, and the updates go out as JDBC batches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchResultBatchWriter {
+
+    private static final String INCREMENT_TEAM_STATS = "UPDATE team_stats SET total_runs_scored = total_runs_scored + ?, " +
+            "total_balls_faced = total_balls_faced + ?, total_runs_conceded = total_runs_conceded + ?, " +
+            "total_balls_bowled = total_balls_bowled + ?, version = COALESCE(version, 0) + ?, " +
+            "record_updated_date = ?, record_updated_by = ? WHERE tournament_id = ? AND team_id = ?";
+
+    private static final String INCREMENT_POINTS_TABLE = "UPDATE points_table SET played = played + ?, won = won + ?, " +
+            "lost = lost + ?, tied = tied + ?, no_result = no_result + ?, points = points + ?, " +
+            "net_match_rate = COALESCE(?, net_match_rate), version = COALESCE(version, 0) + ?, " +
+            "record_updated_date = ?, record_updated_by = ? WHERE tournament_id = ? AND team_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TeamStatsRepository teamStatsRepository;
+    private final MatchResultRepository matchResultRepository;
+    private final TournamentManagementMappers tournamentManagementMappers;
+    private final MatchResultOutbox matchResultOutbox;
+    private final AuditorAware<String> auditorProvider;
+    private final DateTimeProvider auditingDateTimeProvider;
+
+    @Transactional
+    public void write(Tournament tournament, List<AddMatchResultRequest> matchResultRequests) throws RecordNotFoundException {
+
+        final long tournamentId = tournament.getTournamentId();
+
+        // results first, a match recorded meanwhile fails the unique key before any update
+        List<MatchResult> matchResults = matchResultRequests.stream()
+                .map(tournamentManagementMappers::mapMatchResultRequestDTOToMatchResult)
+                .toList();
+        matchResultRepository.saveAllAndFlush(matchResults);
+        matchResultOutbox.recordAll(MatchResultEventType.RECORDED, matchResultRequests);
+
+        Map<Long, TeamResultDelta> deltaByTeamId = new LinkedHashMap<>();
+        for (AddMatchResultRequest matchResultRequest : matchResultRequests) {
+            for (TeamResultDelta delta : MatchResultRules.computeDeltas(matchResultRequest, tournament.getMaximumOversPerMatch())) {
+                deltaByTeamId.merge(delta.getTeamId(), delta, TeamResultDelta::plus);
+            }
+        }
+
+        Timestamp updatedDate = Timestamp.valueOf(auditingDateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now));
+        String updatedBy = auditorProvider.getCurrentAuditor().orElse("system");
+
+        // versions move by the number of results applied, the same as one result at a time
+        List<Object[]> teamStatsArgs = deltaByTeamId.values().stream()
+                .filter(delta -> delta.getPlayed() > delta.getNoResult())
+                .map(delta -> new Object[]{delta.getRunsScored(), delta.getBallsFaced(), delta.getRunsConceded(), delta.getBallsBowled(),
+                        delta.getPlayed() - delta.getNoResult(), updatedDate, updatedBy, tournamentId, delta.getTeamId()})
+                .toList();
+        verifyUpdated(jdbcTemplate.batchUpdate(INCREMENT_TEAM_STATS, teamStatsArgs), teamStatsArgs, "stats");
+
+        Map<Long, TeamStats> teamStatsByTeamId = teamStatsRepository.findByTournamentIdAndTeamIdIn(tournamentId, deltaByTeamId.keySet()).stream()
+                .collect(Collectors.toMap(TeamStats::getTeamId, Function.identity()));
+
+        List<Object[]> pointsTableArgs = new ArrayList<>();
+        for (TeamResultDelta delta : deltaByTeamId.values()) {
+            Double netRunRate = null;
+            TeamStats teamStats = teamStatsByTeamId.get(delta.getTeamId());
+            if (delta.isUpdatesNetRunRate() && teamStats != null) {
+                netRunRate = MatchResultRules.netRunRateOf(teamStats);
+            }
+            pointsTableArgs.add(new Object[]{delta.getPlayed(), delta.getWon(), delta.getLost(), delta.getTied(), delta.getNoResult(), delta.getPoints(),
+                    netRunRate, delta.getPlayed(), updatedDate, updatedBy, tournamentId, delta.getTeamId()});
+        }
+        verifyUpdated(jdbcTemplate.batchUpdate(INCREMENT_POINTS_TABLE, pointsTableArgs), pointsTableArgs, "points");
+
+        log.info("Saved {} match results for tournament id: {} updating {} teams", matchResultRequests.size(), tournamentId, deltaByTeamId.size());
+    }
+
+    private static void verifyUpdated(int[] updateCounts, List<Object[]> args, String recordName) {
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                Object[] arg = args.get(i);
+                throw new RecordNotFoundException("No " + recordName + " record found with teamId:" + arg[arg.length - 1] + "and tournamentId: " + arg[arg.length - 2]);
+            }
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.tournament.management.service;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.dto.BulkMatchResultItemStatus;
+import com.tournament.management.dto.BulkMatchResultResponse;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.events.MatchResultRecordedEvent;
+import com.tournament.management.exceptions.InvalidRequestException;
+import com.tournament.management.repository.PointsTableRepository;
+import com.tournament.management.repository.TournamentRepository;
+import com.tournament.management.standings.StandingsEngine;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import com.tournament.management.utils.ApplicationConstants.MatchResultIngestionStatus;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ingests many match results at once, used for season backfills and feed replays.
+ * Every item is validated on its own, valid items are written per tournament by MatchResultBatchWriter
+ * and caches are invalidated once per tournament.
+ */
+@Service
+@Slf4j
+public class MatchResultBulkIngestionService {
+
+    private final Validator validator;
+    private final TournamentRepository tournamentRepository;
+    private final PointsTableRepository pointsTableRepository;
+    private final MatchResultBatchWriter matchResultBatchWriter;
+    private final MatchResultWriteScheduler matchResultWriteScheduler;
+    private final RecordedMatchNumbers recordedMatchNumbers;
+    private final StandingsEngine standingsEngine;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int maxItems;
+
+    public MatchResultBulkIngestionService(Validator validator,
+                                           TournamentRepository tournamentRepository,
+                                           PointsTableRepository pointsTableRepository,
+                                           MatchResultBatchWriter matchResultBatchWriter,
+                                           MatchResultWriteScheduler matchResultWriteScheduler,
+                                           RecordedMatchNumbers recordedMatchNumbers,
+                                           StandingsEngine standingsEngine,
+                                           ApplicationEventPublisher applicationEventPublisher,
+                                           @Value("${tourni.bulk.max-items:1000}") int maxItems) {
+        this.validator = validator;
+        this.tournamentRepository = tournamentRepository;
+        this.pointsTableRepository = pointsTableRepository;
+        this.matchResultBatchWriter = matchResultBatchWriter;
+        this.matchResultWriteScheduler = matchResultWriteScheduler;
+        this.recordedMatchNumbers = recordedMatchNumbers;
+        this.standingsEngine = standingsEngine;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.maxItems = maxItems;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /*
+     * A null element stands for an item that could not be read, it is reported as rejected
+     */
+    public BulkMatchResultResponse ingest(List<AddMatchResultRequest> matchResultRequests) throws InvalidRequestException {
+        if (matchResultRequests.size() > maxItems) {
+            throw new InvalidRequestException("At most " + maxItems + " match results can be added at once");
+        }
+
+        BulkMatchResultItemStatus[] itemStatuses = new BulkMatchResultItemStatus[matchResultRequests.size()];
+
+        Map<Long, Tournament> tournamentsById = tournamentRepository.findAllById(matchResultRequests.stream()
+                        .filter(Objects::nonNull)
+                        .map(AddMatchResultRequest::getTournamentId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Tournament::getTournamentId, Function.identity()));
+
+        Map<Long, Set<Long>> teamIdsByTournamentId = new HashMap<>();
+        Set<String> seenMatches = new HashSet<>();
+
+        // valid items grouped by tournament, keeping the item index for the response
+        Map<Long, List<Integer>> indexesByTournamentId = new LinkedHashMap<>();
+
+        for (int index = 0; index < matchResultRequests.size(); index++) {
+            AddMatchResultRequest matchResultRequest = matchResultRequests.get(index);
+
+            String rejection = validate(matchResultRequest, tournamentsById, teamIdsByTournamentId, seenMatches);
+            if (rejection != null) {
+                itemStatuses[index] = toItemStatus(index, matchResultRequest, MatchResultIngestionStatus.REJECTED, rejection);
+                continue;
+            }
+
+            if (recordedMatchNumbers.isRecorded(matchResultRequest.getTournamentId(), matchResultRequest.getMatchNumber())) {
+                itemStatuses[index] = toItemStatus(index, matchResultRequest, MatchResultIngestionStatus.DUPLICATE, "Match result already recorded");
+                continue;
+            }
+
+            indexesByTournamentId.computeIfAbsent(matchResultRequest.getTournamentId(), tournamentId -> new ArrayList<>()).add(index);
+        }
+
+        indexesByTournamentId.forEach((tournamentId, indexes) ->
+                writeTournament(tournamentsById.get(tournamentId), indexes, matchResultRequests, itemStatuses));
+
+        List<BulkMatchResultItemStatus> items = Arrays.asList(itemStatuses);
+        return new BulkMatchResultResponse(
+                count(items, MatchResultIngestionStatus.SAVED),
+                count(items, MatchResultIngestionStatus.DUPLICATE),
+                count(items, MatchResultIngestionStatus.REJECTED),
+                count(items, MatchResultIngestionStatus.FAILED),
+                items);
+    }
+
+    /*
+     * Writes the valid items of one tournament together. When a match number was recorded meanwhile (by another
+     * request or instance) the write fails on the unique key: the recorded items are reported as duplicates and
+     * the rest is written again without them.
+     */
+    private void writeTournament(Tournament tournament, List<Integer> indexes, List<AddMatchResultRequest> matchResultRequests,
+                                 BulkMatchResultItemStatus[] itemStatuses) {
+        final long tournamentId = tournament.getTournamentId();
+        List<Integer> pendingIndexes = new ArrayList<>(indexes);
+
+        while (!pendingIndexes.isEmpty()) {
+            List<AddMatchResultRequest> tournamentRequests = pendingIndexes.stream().map(matchResultRequests::get).toList();
+
+            MatchResultIngestionStatus status;
+            String message;
+            try {
+                matchResultWriteScheduler.execute(tournamentId, () -> {
+                    matchResultBatchWriter.write(tournament, tournamentRequests);
+                    return null;
+                });
+
+                tournamentRequests.forEach(matchResultRequest -> {
+                    recordedMatchNumbers.markRecorded(tournamentId, matchResultRequest.getMatchNumber());
+                    standingsEngine.applyMatchResult(matchResultRequest);
+                });
+                applicationEventPublisher.publishEvent(new MatchResultRecordedEvent(tournamentId, MatchResultEventType.RECORDED, null));
+
+                status = MatchResultIngestionStatus.SAVED;
+                message = null;
+            } catch (DataIntegrityViolationException e) {
+                if (MatchResultChecks.isDuplicateMatchNumber(e) && removeRecorded(tournamentId, pendingIndexes, matchResultRequests, itemStatuses)) {
+                    log.info("Match results of tournament id: {} were recorded meanwhile, writing the other {} again", tournamentId, pendingIndexes.size());
+                    continue;
+                }
+                log.error("Unable to save {} match results of tournament id: {}", tournamentRequests.size(), tournamentId, e);
+                status = MatchResultIngestionStatus.FAILED;
+                message = "Match results of tournament " + tournamentId + " were not saved: " + e.getMessage();
+            } catch (RuntimeException e) {
+                log.error("Unable to save {} match results of tournament id: {}", tournamentRequests.size(), tournamentId, e);
+                status = MatchResultIngestionStatus.FAILED;
+                message = "Match results of tournament " + tournamentId + " were not saved: " + e.getMessage();
+            }
+
+            for (Integer index : pendingIndexes) {
+                itemStatuses[index] = toItemStatus(index, matchResultRequests.get(index), status, message);
+            }
+            return;
+        }
+    }
+
+    /*
+     * Reports the pending items whose match number is recorded by now as duplicates, false when there is none
+     */
+    private boolean removeRecorded(long tournamentId, List<Integer> pendingIndexes, List<AddMatchResultRequest> matchResultRequests,
+                                   BulkMatchResultItemStatus[] itemStatuses) {
+        return pendingIndexes.removeIf(index -> {
+            AddMatchResultRequest matchResultRequest = matchResultRequests.get(index);
+            if (!recordedMatchNumbers.isRecorded(tournamentId, matchResultRequest.getMatchNumber())) {
+                return false;
+            }
+            itemStatuses[index] = toItemStatus(index, matchResultRequest, MatchResultIngestionStatus.DUPLICATE, "Match result already recorded");
+            return true;
+        });
+    }
+
+    private String validate(AddMatchResultRequest matchResultRequest,
+                            Map<Long, Tournament> tournamentsById,
+                            Map<Long, Set<Long>> teamIdsByTournamentId,
+                            Set<String> seenMatches) {
+        if (matchResultRequest == null) {
+            return "Unreadable match result";
+        }
+
+        Set<ConstraintViolation<AddMatchResultRequest>> violations = validator.validate(matchResultRequest);
+        if (!violations.isEmpty()) {
+            return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+        }
+
+        Long tournamentId = matchResultRequest.getTournamentId();
+        Long teamOneId = matchResultRequest.getTeamOneId();
+        Long teamTwoId = matchResultRequest.getTeamTwoId();
+
+        if (!tournamentsById.containsKey(tournamentId)) {
+            return "No tournament found for given id : " + tournamentId;
+        }
+
+        Set<Long> tournamentTeamIds = teamIdsByTournamentId.computeIfAbsent(tournamentId, id -> pointsTableRepository.findByTournamentId(id)
+                .orElse(List.of()).stream()
+                .map(PointsTable::getTeamId)
+                .collect(Collectors.toSet()));
+        if (!tournamentTeamIds.contains(teamOneId) || !tournamentTeamIds.contains(teamTwoId)) {
+            return "Teams " + teamOneId + " and " + teamTwoId + " must both play in tournament " + tournamentId;
+        }
+
+        String rejection = MatchResultChecks.rejectionOf(matchResultRequest);
+        if (rejection != null) {
+            return rejection;
+        }
+
+        if (!seenMatches.add(tournamentId + ":" + matchResultRequest.getMatchNumber())) {
+            return "Match number " + matchResultRequest.getMatchNumber() + " appears more than once for tournament " + tournamentId;
+        }
+
+        return null;
+    }
+
+    private static BulkMatchResultItemStatus toItemStatus(int index, AddMatchResultRequest matchResultRequest,
+                                                          MatchResultIngestionStatus status, String message) {
+        return new BulkMatchResultItemStatus(index,
+                matchResultRequest == null ? null : matchResultRequest.getTournamentId(),
+                matchResultRequest == null ? null : matchResultRequest.getMatchNumber(),
+                status,
+                message);
+    }
+
+    private static int count(List<BulkMatchResultItemStatus> items, MatchResultIngestionStatus status) {
+        return (int) items.stream().filter(item -> item.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,56 @@
+package com.tournament.management.service;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.utils.ApplicationConstants.MatchResultStatus;
+import com.tournament.management.utils.NetRunRateCalculator;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Checks on a match result that bean validation cannot express, shared by bulk ingestion and corrections.
+ */
+final class MatchResultChecks {
+
+    private MatchResultChecks() {
+    }
+
+    /*
+     * Why the result cannot be counted, null when it can. The request must already pass bean validation.
+     */
+    static String rejectionOf(AddMatchResultRequest matchResultRequest) {
+        Long teamOneId = matchResultRequest.getTeamOneId();
+        Long teamTwoId = matchResultRequest.getTeamTwoId();
+
+        if (teamOneId.equals(teamTwoId)) {
+            return "Team one and team two must be different";
+        }
+
+        MatchResultStatus matchResultStatus = matchResultRequest.getMatchResultStatus();
+        if (matchResultStatus == MatchResultStatus.COMPLETED
+                && !teamOneId.equals(matchResultRequest.getWinnerTeamId()) && !teamTwoId.equals(matchResultRequest.getWinnerTeamId())) {
+            return "Winner of a completed match must be team one or team two";
+        }
+
+        if (matchResultStatus != MatchResultStatus.NO_RESULT
+                && (matchResultRequest.getTeamOneScore() == null || matchResultRequest.getTeamTwoScore() == null
+                || matchResultRequest.getTeamOneWickets() == null || matchResultRequest.getTeamTwoWickets() == null
+                || matchResultRequest.getTeamOneOversPlayed() == null || matchResultRequest.getTeamTwoOversPlayed() == null)) {
+            return "Scores, wickets and overs are mandatory for " + matchResultStatus + " matches";
+        }
+
+        if (matchResultStatus != MatchResultStatus.NO_RESULT
+                && (!NetRunRateCalculator.isValidOvers(matchResultRequest.getTeamOneOversPlayed()) || !NetRunRateCalculator.isValidOvers(matchResultRequest.getTeamTwoOversPlayed()))) {
+            return "Overs must be given as overs.balls with at most 5 balls e.g. 19.4";
+        }
+
+        return null;
+    }
+
+    /*
+     * The write failed because one of its match numbers is already recorded for the tournament
+     */
+    static boolean isDuplicateMatchNumber(DataIntegrityViolationException e) {
+        String cause = e.getMostSpecificCause().getMessage();
+        return cause != null && cause.contains(MatchResult.UNIQUE_MATCH_NUMBER);
+    }
+}
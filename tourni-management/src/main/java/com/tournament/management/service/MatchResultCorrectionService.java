@@ -0,0 +1,188 @@
+package com.tournament.management.service;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.events.MatchResultRecordedEvent;
+import com.tournament.management.exceptions.InvalidRequestException;
+import com.tournament.management.exceptions.RecordNotFoundException;
+import com.tournament.management.mappers.TournamentManagementMappers;
+import com.tournament.management.observers.MatchResultContext;
+import com.tournament.management.observers.MatchResultContextLoader;
+import com.tournament.management.outbox.MatchResultOutbox;
+import com.tournament.management.repository.MatchResultHistoryRepository;
+import com.tournament.management.repository.MatchResultRepository;
+import com.tournament.management.repository.PointsTableRepository;
+import com.tournament.management.repository.TeamStatsRepository;
+import com.tournament.management.standings.MatchResultRules;
+import com.tournament.management.standings.StandingsEngine;
+import com.tournament.management.standings.TeamResultDelta;
+import com.tournament.management.utils.ApplicationConstants.MatchResultChangeType;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Corrects and deletes recorded match results without rebuilding the standings.
+ *
+ * The recorded result is locked, its deltas are taken back out and the corrected result's deltas are added,
+ * summed per team so each team's team_stats and points_table row is incremented once in the same transaction.
+ * The previous state is kept in match_result_history. Runs on the tournament's write stripe like new results.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchResultCorrectionService {
+
+    private final MatchResultRepository matchResultRepository;
+    private final MatchResultHistoryRepository matchResultHistoryRepository;
+    private final TeamStatsRepository teamStatsRepository;
+    private final PointsTableRepository pointsTableRepository;
+    private final MatchResultContextLoader matchResultContextLoader;
+    private final TournamentManagementMappers tournamentManagementMappers;
+    private final RecordedMatchNumbers recordedMatchNumbers;
+    private final StandingsEngine standingsEngine;
+    private final MatchResultWriteScheduler matchResultWriteScheduler;
+    private final MatchResultOutbox matchResultOutbox;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public void updateMatchResult(long tournamentId, long matchNumber, AddMatchResultRequest correctedRequest) throws RecordNotFoundException, InvalidRequestException {
+
+        validate(tournamentId, matchNumber, correctedRequest);
+
+        matchResultWriteScheduler.execute(tournamentId, () -> {
+            correctMatchResult(tournamentId, matchNumber, correctedRequest);
+            return null;
+        });
+    }
+
+    public void deleteMatchResult(long tournamentId, long matchNumber) throws RecordNotFoundException {
+        matchResultWriteScheduler.execute(tournamentId, () -> {
+            removeMatchResult(tournamentId, matchNumber);
+            return null;
+        });
+    }
+
+    private void correctMatchResult(long tournamentId, long matchNumber, AddMatchResultRequest correctedRequest) {
+
+        MatchResultContext matchResultContext = matchResultContextLoader.load(correctedRequest);
+        int maximumOversPerMatch = matchResultContext.getTournament().getMaximumOversPerMatch();
+
+        MatchResult matchResult = findForUpdate(tournamentId, matchNumber);
+        TeamResultDelta[] reverseDeltas = MatchResultRules.computeDeltas(matchResult, maximumOversPerMatch);
+
+        matchResultHistoryRepository.save(tournamentManagementMappers.mapMatchResultToMatchResultHistory(matchResult, MatchResultChangeType.UPDATED));
+        tournamentManagementMappers.updateMatchResultFromRequest(matchResult, correctedRequest);
+        matchResultRepository.saveAndFlush(matchResult);
+        matchResultOutbox.record(MatchResultEventType.CORRECTED, correctedRequest);
+
+        Map<Long, TeamResultDelta> deltaByTeamId = new LinkedHashMap<>();
+        for (TeamResultDelta delta : reverseDeltas) {
+            deltaByTeamId.merge(delta.getTeamId(), delta.negate(), TeamResultDelta::plus);
+        }
+        for (TeamResultDelta delta : MatchResultRules.computeDeltas(correctedRequest, maximumOversPerMatch)) {
+            deltaByTeamId.merge(delta.getTeamId(), delta, TeamResultDelta::plus);
+        }
+
+        applyDeltas(matchResultContext, deltaByTeamId);
+
+        log.info("Corrected match {} of tournament id: {}", matchNumber, tournamentId);
+
+        AfterCommit.run(() -> afterChange(MatchResultEventType.CORRECTED, correctedRequest));
+    }
+
+    private void removeMatchResult(long tournamentId, long matchNumber) {
+
+        MatchResult matchResult = findForUpdate(tournamentId, matchNumber);
+        MatchResultContext matchResultContext = matchResultContextLoader.load(MatchResultRules.toMatchResultRequest(matchResult));
+
+        Map<Long, TeamResultDelta> deltaByTeamId = new LinkedHashMap<>();
+        for (TeamResultDelta delta : MatchResultRules.computeDeltas(matchResult, matchResultContext.getTournament().getMaximumOversPerMatch())) {
+            deltaByTeamId.merge(delta.getTeamId(), delta.negate(), TeamResultDelta::plus);
+        }
+
+        matchResultHistoryRepository.save(tournamentManagementMappers.mapMatchResultToMatchResultHistory(matchResult, MatchResultChangeType.DELETED));
+        // hard delete frees the match number, the unique key covers inactive rows as well
+        matchResultRepository.delete(matchResult);
+        matchResultRepository.flush();
+        matchResultOutbox.record(MatchResultEventType.DELETED, matchResultContext.getMatchResultRequest());
+
+        applyDeltas(matchResultContext, deltaByTeamId);
+
+        log.info("Deleted match {} of tournament id: {}", matchNumber, tournamentId);
+
+        AfterCommit.run(() -> {
+            recordedMatchNumbers.forget(tournamentId, matchNumber);
+            afterChange(MatchResultEventType.DELETED, matchResultContext.getMatchResultRequest());
+        });
+    }
+
+    private MatchResult findForUpdate(long tournamentId, long matchNumber) throws RecordNotFoundException {
+        return matchResultRepository.findForUpdateByTournamentIdAndMatchNumber(tournamentId, matchNumber)
+                .orElseThrow(() -> new RecordNotFoundException("No match result found with match number: " + matchNumber + " and tournamentId: " + tournamentId));
+    }
+
+    /*
+     * Same increments as the observers, with the reverse and forward deltas already summed per team
+     */
+    private void applyDeltas(MatchResultContext matchResultContext, Map<Long, TeamResultDelta> deltaByTeamId) throws RecordNotFoundException {
+
+        final long tournamentId = matchResultContext.getTournament().getTournamentId();
+
+        for (TeamResultDelta delta : deltaByTeamId.values()) {
+            int updatedRows = teamStatsRepository.incrementTotals(tournamentId, delta.getTeamId(),
+                    delta.getRunsScored(), delta.getBallsFaced(), delta.getRunsConceded(), delta.getBallsBowled(),
+                    matchResultContext.getUpdatedDate(), matchResultContext.getUpdatedBy());
+
+            if (updatedRows == 0) {
+                throw new RecordNotFoundException("No stats found with teamId :" + delta.getTeamId() + "and tournamentId: " + tournamentId);
+            }
+        }
+
+        Map<Long, TeamStats> teamStatsByTeamId = teamStatsRepository.findByTournamentIdAndTeamIdIn(tournamentId, deltaByTeamId.keySet()).stream()
+                .collect(Collectors.toMap(TeamStats::getTeamId, Function.identity()));
+
+        for (TeamResultDelta delta : deltaByTeamId.values()) {
+            Double netRunRate = null;
+            TeamStats teamStats = teamStatsByTeamId.get(delta.getTeamId());
+            if (delta.isUpdatesNetRunRate() && teamStats != null) {
+                netRunRate = MatchResultRules.netRunRateOf(teamStats);
+            }
+
+            int updatedRows = pointsTableRepository.incrementResult(tournamentId, delta.getTeamId(),
+                    delta.getPlayed(), delta.getWon(), delta.getLost(), delta.getTied(), delta.getNoResult(), delta.getPoints(),
+                    netRunRate, matchResultContext.getUpdatedDate(), matchResultContext.getUpdatedBy());
+
+            if (updatedRows == 0) {
+                throw new RecordNotFoundException("No points record found with teamId:" + delta.getTeamId() + "and tournamentId: " + tournamentId);
+            }
+        }
+    }
+
+    /*
+     * Corrections move row versions, the engine adopts the committed rows instead of replaying the deltas
+     */
+    private void afterChange(MatchResultEventType eventType, AddMatchResultRequest matchResultRequest) {
+        final long tournamentId = matchResultRequest.getTournamentId();
+        standingsEngine.reload(tournamentId);
+        applicationEventPublisher.publishEvent(new MatchResultRecordedEvent(tournamentId, eventType, matchResultRequest));
+    }
+
+    private static void validate(long tournamentId, long matchNumber, AddMatchResultRequest correctedRequest) throws InvalidRequestException {
+        if (correctedRequest.getTournamentId() != tournamentId || correctedRequest.getMatchNumber() != matchNumber) {
+            throw new InvalidRequestException("Tournament id and match number cannot be changed by a correction");
+        }
+
+        String rejection = MatchResultChecks.rejectionOf(correctedRequest);
+        if (rejection != null) {
+            throw new InvalidRequestException(rejection);
+        }
+    }
+}
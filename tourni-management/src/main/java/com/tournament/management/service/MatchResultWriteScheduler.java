@@ -0,0 +1,155 @@
+package com.tournament.management.service;
+
+import com.tournament.management.security.UserContext;
+import com.tournament.management.security.UserContextHolder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs match result writes on a fixed set of single-threaded stripes chosen by tournament id.
+ *
+ * Writes of the same tournament touch the same team_stats and points_table rows and run one after the other,
+ * in submission order. Writes of different tournaments usually land on different stripes and run in parallel.
+ * Each attempt runs in its own transaction, a write that still fails on an optimistic lock, a lock timeout
+ * or a deadlock (e.g. against an instance that does not share the stripes) is retried with backoff.
+ *
+ * Callers block until their write is done, the user context of the caller is used for the audit columns.
+ */
+@Slf4j
+public class MatchResultWriteScheduler {
+
+    private final ThreadPoolExecutor[] stripes;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter retriesCounter;
+    private final Counter exhaustedCounter;
+
+    // index of the stripe whose thread runs a write, nested writes of the same stripe run inline
+    private final ThreadLocal<Integer> currentStripe = new ThreadLocal<>();
+
+    public MatchResultWriteScheduler(int stripeCount, int maxAttempts, Duration retryBackoff, Duration maxRetryBackoff,
+                                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.stripes = new ThreadPoolExecutor[Math.max(1, stripeCount)];
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("match-result-writer-");
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        }
+
+        this.retriesCounter = Counter.builder("tourni.writes.retries")
+                .description("Match result writes retried after a concurrency failure")
+                .register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("tourni.writes.retries.exhausted")
+                .description("Match result writes that still failed after the last attempt")
+                .register(meterRegistry);
+        meterRegistry.gauge("tourni.writes.queued", stripes,
+                executors -> Arrays.stream(executors).mapToInt(executor -> executor.getQueue().size()).sum());
+    }
+
+    /*
+     * Runs the write in a new transaction on the tournament's stripe and returns its result.
+     * Exceptions thrown by the write are rethrown to the caller once retries are exhausted.
+     * A write may nest another write of a tournament on the same stripe, nesting one of another stripe fails:
+     * waiting for that stripe from this one could deadlock two stripes waiting for each other.
+     */
+    public <T> T execute(long tournamentId, Supplier<T> write) {
+        final int stripe = stripeOf(tournamentId);
+
+        Integer outerStripe = currentStripe.get();
+        if (outerStripe != null) {
+            if (outerStripe != stripe) {
+                throw new IllegalStateException("Match result write of tournament id: " + tournamentId + " runs on stripe " + stripe
+                        + " and cannot be nested in a write on stripe " + outerStripe);
+            }
+            // already serialized by the outer write, which also owns the retries
+            return write.get();
+        }
+
+        UserContext userContext = UserContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        Future<T> future = stripes[stripe].submit(() -> {
+            currentStripe.set(stripe);
+            UserContextHolder.setContext(userContext);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                return executeWithRetry(tournamentId, write);
+            } finally {
+                currentStripe.remove();
+                UserContextHolder.clear();
+                MDC.clear();
+            }
+        });
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Match result write failed", e.getCause());
+        } catch (InterruptedException e) {
+            // the write may still run, its outcome is left to the caller to check
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for match result write of tournament id: " + tournamentId, e);
+        }
+    }
+
+    public void shutdown() {
+        Arrays.stream(stripes).forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    private <T> T executeWithRetry(long tournamentId, Supplier<T> write) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> write.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhaustedCounter.increment();
+                    throw e;
+                }
+                retriesCounter.increment();
+
+                // shift clamped so large attempt counts cannot overflow
+                long backoffMillis = Math.min(retryBackoff.toMillis() << Math.min(attempt - 1, 20), maxRetryBackoff.toMillis());
+                long sleepMillis = backoffMillis + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+                log.warn("Match result write of tournament id: {} failed on attempt {} of {}, retrying in {} ms: {}",
+                        tournamentId, attempt, maxAttempts, sleepMillis, e.getMessage());
+                Thread.sleep(sleepMillis);
+            }
+        }
+    }
+
+    int stripeOf(long tournamentId) {
+        return Math.floorMod(Long.hashCode(tournamentId * 0x9E3779B97F4A7C15L), stripes.length);
+    }
+}
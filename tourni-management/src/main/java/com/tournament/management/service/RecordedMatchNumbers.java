@@ -0,0 +1,50 @@
+package com.tournament.management.service;
+
+import com.tournament.management.repository.MatchResultRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Match numbers already recorded per tournament, so retried results are recognised before any update runs.
+ * Remembered numbers are answered from memory, unknown ones with a single exists query.
+ * The unique key on (tournament_id, match_number) stays the source of truth, e.g. for results written by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordedMatchNumbers {
+
+    private final MatchResultRepository matchResultRepository;
+
+    private final Map<Long, Set<Long>> matchNumbersByTournamentId = new ConcurrentHashMap<>();
+
+    public boolean isRecorded(long tournamentId, long matchNumber) {
+        Set<Long> matchNumbers = matchNumbersByTournamentId.get(tournamentId);
+        if (matchNumbers != null && matchNumbers.contains(matchNumber)) {
+            return true;
+        }
+
+        if (matchResultRepository.existsByTournamentIdAndMatchNumber(tournamentId, matchNumber)) {
+            markRecorded(tournamentId, matchNumber);
+            return true;
+        }
+        return false;
+    }
+
+    /*
+     * Call only once the result is committed
+     */
+    public void markRecorded(long tournamentId, long matchNumber) {
+        matchNumbersByTournamentId.computeIfAbsent(tournamentId, id -> ConcurrentHashMap.newKeySet()).add(matchNumber);
+    }
+
+    public void forget(long tournamentId, long matchNumber) {
+        Set<Long> matchNumbers = matchNumbersByTournamentId.get(tournamentId);
+        if (matchNumbers != null) {
+            matchNumbers.remove(matchNumber);
+        }
+    }
+}
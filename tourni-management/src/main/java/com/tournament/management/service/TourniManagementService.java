@@ -3,15 +3,23 @@ package com.tournament.management.service;
 import com.tournament.management.dto.*;
 import com.tournament.management.exceptions.RecordNotFoundException;
 
-import java.util.List;
-
 public interface TourniManagementService {
 
     PointsTableByTournamentResponse getPointsTableByTournamentId(Long tournamentId) throws RecordNotFoundException;
 
-    void addMatchResult(AddMatchResultRequest matchResultRequest);
+    /**
+     * Returns false without changing anything when the tournament already has a result for this match number
+     */
+    boolean addMatchResult(AddMatchResultRequest matchResultRequest);
+
+    /**
+     * Tournaments after the cursor in id order, null filters, cursor and limit are not applied
+     */
+    KeysetPage<TournamentDTO> getTournaments(Long tournamentTypeId, Integer tournamentYear, Boolean active, Long cursor, Integer limit);
+
+    KeysetPage<TeamDTO> getTeamsByTournamentId(Long tournamentId, Long cursor, Integer limit);
 
-    List<TournamentDTO> getAllTournaments();
+    String getPointsTableETag(Long tournamentId);
 
-    List<TeamDTO> getAllTeamsByTournamentId(Long tournamentId);
+    String getTeamsETag(Long tournamentId);
 }
@@ -1,24 +1,31 @@
 package com.tournament.management.service;
 
+import com.tournament.management.cache.CacheNames;
 import com.tournament.management.dto.*;
 import com.tournament.management.entity.app.MatchResult;
-import com.tournament.management.entity.app.PointsTable;
-import com.tournament.management.entity.app.Team;
-import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.events.MatchResultRecordedEvent;
+import com.tournament.management.exceptions.RecordAlreadyExistsException;
 import com.tournament.management.exceptions.RecordNotFoundException;
 import com.tournament.management.mappers.TournamentManagementMappers;
+import com.tournament.management.observers.MatchResultContext;
+import com.tournament.management.observers.MatchResultContextLoader;
 import com.tournament.management.observers.MatchResultSubject;
 import com.tournament.management.observers.PointsTableObserver;
 import com.tournament.management.observers.TeamStatsObserver;
+import com.tournament.management.outbox.MatchResultOutbox;
 import com.tournament.management.repository.*;
+import com.tournament.management.repository.projection.TableVersion;
+import com.tournament.management.standings.StandingsEngine;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @Service
 @Slf4j
@@ -27,30 +34,45 @@ public class TourniManagementServiceImpl implements TourniManagementService {
     private final TournamentManagementMappers tournamentManagementMappers;
     private final MatchResultRepository matchResultRepository;
     private final MatchResultSubject matchResultSubject;
+    private final MatchResultContextLoader matchResultContextLoader;
+    private final RecordedMatchNumbers recordedMatchNumbers;
     private final PointsTableRepository pointsTableRepository;
-    private final TeamRepository teamRepository;
-    private final TournamentRepository tournamentRepository;
     private final TeamToTournamentMappingRepository teamToTournamentMappingRepository;
+    private final TourniQueryService tourniQueryService;
+    private final StandingsEngine standingsEngine;
+    private final MatchResultWriteScheduler matchResultWriteScheduler;
+    private final MatchResultOutbox matchResultOutbox;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
 
     @Autowired
     public TourniManagementServiceImpl(TournamentManagementMappers tournamentManagementMappers,
                                        MatchResultRepository matchResultRepository,
                                        MatchResultSubject matchResultSubject,
+                                       MatchResultContextLoader matchResultContextLoader,
+                                       RecordedMatchNumbers recordedMatchNumbers,
                                        TeamStatsObserver teamStatsObserver,
                                        PointsTableObserver pointsTableObserver,
                                        PointsTableRepository pointsTableRepository,
-                                       TeamRepository teamRepository,
-                                       TournamentRepository tournamentRepository,
-                                       TeamToTournamentMappingRepository teamToTournamentMappingRepository) {
+                                       TeamToTournamentMappingRepository teamToTournamentMappingRepository,
+                                       TourniQueryService tourniQueryService,
+                                       StandingsEngine standingsEngine,
+                                       MatchResultWriteScheduler matchResultWriteScheduler,
+                                       MatchResultOutbox matchResultOutbox,
+                                       ApplicationEventPublisher applicationEventPublisher) {
 
         this.tournamentManagementMappers = tournamentManagementMappers;
         this.matchResultRepository = matchResultRepository;
         this.matchResultSubject = matchResultSubject;
+        this.matchResultContextLoader = matchResultContextLoader;
+        this.recordedMatchNumbers = recordedMatchNumbers;
         this.pointsTableRepository = pointsTableRepository;
-        this.teamRepository = teamRepository;
-        this.tournamentRepository = tournamentRepository;
         this.teamToTournamentMappingRepository = teamToTournamentMappingRepository;
+        this.tourniQueryService = tourniQueryService;
+        this.standingsEngine = standingsEngine;
+        this.matchResultWriteScheduler = matchResultWriteScheduler;
+        this.matchResultOutbox = matchResultOutbox;
+        this.applicationEventPublisher = applicationEventPublisher;
 
         matchResultSubject.addObserver(teamStatsObserver);
         matchResultSubject.addObserver(pointsTableObserver);
@@ -59,72 +81,105 @@ public class TourniManagementServiceImpl implements TourniManagementService {
 
 
     @Override
-    @Cacheable(value="pointsTableByTournamentId", key="#tournamentId")
+    @Cacheable(value = CacheNames.POINTS_TABLE_BY_TOURNAMENT_ID, key = "#tournamentId", sync = true, condition = "!@standingsEngine.isTracking(#tournamentId)")
     public PointsTableByTournamentResponse getPointsTableByTournamentId(Long tournamentId) throws RecordNotFoundException {
 
-        List<PointsTable> pointsTableList = pointsTableRepository.findByTournamentId(tournamentId)
-                .orElseThrow(() -> {
-                    log.error("No points table found for tournament id: {}", tournamentId);
-                    return new RecordNotFoundException("No points table found for tournament id: " + tournamentId);
-                });
-
-        List<PointsTableDTO> pointsTableDTO = pointsTableList.stream()
-                .map(pointsTable -> {
-                    String teamName = teamRepository.findTeamNameByTeamId(pointsTable.getTeamId())
-                            .orElseThrow(() -> {
-                                log.error("No team found for team id: {}", pointsTable.getTeamId());
-                                return new RecordNotFoundException("No team found for team id: " + pointsTable.getTeamId());
-                            });
-                    return tournamentManagementMappers.mapPointsTableToPointsTableDTO(pointsTable, teamName);
-                })
-                .toList();
-
-        return PointsTableByTournamentResponse.builder()
-                .tournamentId(tournamentId)
-                .pointsTable(pointsTableDTO)
-                .build();
+        // tournaments tracked by the standings engine are served from memory, the rest from the database
+        Optional<TableVersion> engineVersion = standingsEngine.getVersion(tournamentId);
+        Optional<List<PointsTableDTO>> enginePointsTable = standingsEngine.getPointsTable(tournamentId);
+        if (engineVersion.isPresent() && enginePointsTable.isPresent()) {
+            // version read first, the table is never labelled with a newer version than it contains
+            return tourniQueryService.toPointsTableResponse(tournamentId, enginePointsTable.get(),
+                    ETags.pointsTable(tournamentId, engineVersion.get()));
+        }
+        return tourniQueryService.getPointsTableByTournamentId(tournamentId);
     }
 
+    /*
+     * Runs in one transaction on the tournament's write stripe, observers apply the result with in-database increments
+     * so concurrent results for the same team do not overwrite each other
+     */
     @Override
-    @CacheEvict(value="pointsTableByTournamentId", key = "#addMatchResultRequest.tournamentId")
-    public void addMatchResult(AddMatchResultRequest addMatchResultRequest) {
+    public boolean addMatchResult(AddMatchResultRequest addMatchResultRequest) {
+
+        final long tournamentId = addMatchResultRequest.getTournamentId();
+        final long matchNumber = addMatchResultRequest.getMatchNumber();
+
+        // retries of a recorded result stop here, before any update
+        if (recordedMatchNumbers.isRecorded(tournamentId, matchNumber)) {
+            log.info("Match {} of tournament id: {} is already recorded", matchNumber, tournamentId);
+            return false;
+        }
+
+        return matchResultWriteScheduler.execute(tournamentId, () -> recordMatchResult(addMatchResultRequest));
+    }
+
+    private boolean recordMatchResult(AddMatchResultRequest addMatchResultRequest) {
+
+        final long tournamentId = addMatchResultRequest.getTournamentId();
+        final long matchNumber = addMatchResultRequest.getMatchNumber();
 
         MatchResult matchResult = tournamentManagementMappers.mapMatchResultRequestDTOToMatchResult(addMatchResultRequest);
 
+        // save match result first, a concurrent request for the same match fails on the unique key before updating anything
+        saveMatchResult(matchResult);
+        matchResultOutbox.record(MatchResultEventType.RECORDED, addMatchResultRequest);
+
+        MatchResultContext matchResultContext = matchResultContextLoader.load(addMatchResultRequest);
+
         // update team stats and points table
-        matchResultSubject.notifyObserversSequentially(addMatchResultRequest);
+        matchResultSubject.notifyObservers(matchResultContext);
 
-        // save match result to DB
-        matchResultRepository.save(matchResult);
+        // in-memory standings and caches only follow once the database has the result
+        AfterCommit.run(() -> {
+            recordedMatchNumbers.markRecorded(tournamentId, matchNumber);
+            standingsEngine.applyMatchResult(addMatchResultRequest);
+            applicationEventPublisher.publishEvent(new MatchResultRecordedEvent(tournamentId, MatchResultEventType.RECORDED, addMatchResultRequest));
+        });
 
+        return true;
     }
 
+    /*
+     * Only the unfiltered first page with the default size is cached, the one every client starts with
+     */
     @Override
-    public List<TournamentDTO> getAllTournaments() {
-        List<Tournament> tournamentList = tournamentRepository.findAll();
-        return tournamentList.stream()
-                .map(tournamentManagementMappers::mapTournamentToTournamentDTO)
-                .collect(Collectors.toList());
+    @Cacheable(value = CacheNames.TOURNAMENTS, key = "'firstPage'", sync = true,
+            condition = "#tournamentTypeId == null && #tournamentYear == null && #active == null && #cursor == null && #limit == null")
+    public KeysetPage<TournamentDTO> getTournaments(Long tournamentTypeId, Integer tournamentYear, Boolean active, Long cursor, Integer limit) {
+        return tourniQueryService.getTournaments(tournamentTypeId, tournamentYear, active, cursor, limit);
     }
 
     @Override
-    @Cacheable(value="teamsByTournamentId", key="#tournamentId")
-    public List<TeamDTO> getAllTeamsByTournamentId(Long tournamentId) {
-
-        List<Long> teamIds = teamToTournamentMappingRepository.getTeamIdsByTournamentId(tournamentId)
-                .orElseThrow(() -> {
-                    log.error("No teams found for tournament id: {}", tournamentId);
-                    return new RecordNotFoundException("No teams found for tournament id: " + tournamentId);
-                });
-
-        List<Team> teamList = teamRepository.findTeamsByTeamIds(teamIds)
-                .orElseThrow(() -> {
-                    log.error("No teams found for team ids: {}", teamIds);
-                    return new RecordNotFoundException("No teams found for team ids: " + teamIds);
-                });
-
-        return teamList.stream()
-                .map(tournamentManagementMappers::mapTeamToTeamDTO)
-                .collect(Collectors.toList());
+    @Cacheable(value = CacheNames.TEAMS_BY_TOURNAMENT_ID, key = "#tournamentId", sync = true, condition = "#cursor == null && #limit == null")
+    public KeysetPage<TeamDTO> getTeamsByTournamentId(Long tournamentId, Long cursor, Integer limit) {
+        return tourniQueryService.getTeamsByTournamentId(tournamentId, cursor, limit);
+    }
+
+    /*
+     * ETags are derived from the row versions kept by BaseEntity, answered from the standings engine
+     * when it tracks the tournament and with a single aggregate query otherwise
+     */
+    @Override
+    public String getPointsTableETag(Long tournamentId) {
+        TableVersion tableVersion = standingsEngine.getVersion(tournamentId)
+                .orElseGet(() -> pointsTableRepository.getPointsTableVersion(tournamentId));
+        return ETags.pointsTable(tournamentId, tableVersion);
+    }
+
+    @Override
+    public String getTeamsETag(Long tournamentId) {
+        return ETags.teams(tournamentId, teamToTournamentMappingRepository.getTeamsVersion(tournamentId));
+    }
+
+    private void saveMatchResult(MatchResult matchResult) throws RecordAlreadyExistsException {
+        try {
+            matchResultRepository.saveAndFlush(matchResult);
+        } catch (DataIntegrityViolationException e) {
+            if (MatchResultChecks.isDuplicateMatchNumber(e)) {
+                throw new RecordAlreadyExistsException("Match " + matchResult.getMatchNumber() + " of tournament id: " + matchResult.getTournamentId() + " is already recorded");
+            }
+            throw e;
+        }
     }
 }
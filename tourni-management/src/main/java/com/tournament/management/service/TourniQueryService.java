@@ -0,0 +1,93 @@
+package com.tournament.management.service;
+
+import com.tournament.management.config.TourniListingProperties;
+import com.tournament.management.dto.KeysetPage;
+import com.tournament.management.dto.PointsTableByTournamentResponse;
+import com.tournament.management.dto.PointsTableDTO;
+import com.tournament.management.dto.TeamDTO;
+import com.tournament.management.dto.TournamentDTO;
+import com.tournament.management.exceptions.InvalidRequestException;
+import com.tournament.management.exceptions.RecordNotFoundException;
+import com.tournament.management.repository.PointsTableRepository;
+import com.tournament.management.repository.TeamToTournamentMappingRepository;
+import com.tournament.management.repository.TournamentRepository;
+import com.tournament.management.repository.projection.TableVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Database read path behind the cached reads of {@link TourniManagementService}.
+ * Never cached itself, so it can also be used to reload cache entries in the background.
+ *
+ * Reads run in read-only transactions and select straight into the response DTOs, so no entities
+ * are loaded into the persistence context and nothing is kept for dirty checking.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TourniQueryService {
+
+    private final PointsTableRepository pointsTableRepository;
+    private final TournamentRepository tournamentRepository;
+    private final TeamToTournamentMappingRepository teamToTournamentMappingRepository;
+    private final TourniListingProperties tourniListingProperties;
+
+    /*
+     * The version is read in the same transaction as the rows, so the response carries the ETag of what it contains
+     */
+    @Transactional(readOnly = true)
+    public PointsTableByTournamentResponse getPointsTableByTournamentId(Long tournamentId) throws RecordNotFoundException {
+        TableVersion tableVersion = pointsTableRepository.getPointsTableVersion(tournamentId);
+        return toPointsTableResponse(tournamentId, pointsTableRepository.findPointsTableDTOsByTournamentId(tournamentId),
+                ETags.pointsTable(tournamentId, tableVersion));
+    }
+
+    public PointsTableByTournamentResponse toPointsTableResponse(Long tournamentId, List<PointsTableDTO> pointsTableDTO, String versionTag) throws RecordNotFoundException {
+        if (pointsTableDTO.isEmpty()) {
+            log.error("No points table found for tournament id: {}", tournamentId);
+            throw new RecordNotFoundException("No points table found for tournament id: " + tournamentId);
+        }
+
+        return PointsTableByTournamentResponse.builder()
+                .tournamentId(tournamentId)
+                .pointsTable(pointsTableDTO)
+                .versionTag(versionTag)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<TournamentDTO> getTournaments(Long tournamentTypeId, Integer tournamentYear, Boolean active, Long cursor, Integer limit) {
+        int pageSize = pageSizeOf(limit);
+        List<TournamentDTO> tournaments = tournamentRepository.findTournamentDTOs(afterIdOf(cursor), tournamentTypeId, tournamentYear, active,
+                PageRequest.ofSize(pageSize + 1));
+        return KeysetPage.of(tournaments, pageSize, TournamentDTO::getTournamentId);
+    }
+
+    @Transactional(readOnly = true)
+    public KeysetPage<TeamDTO> getTeamsByTournamentId(Long tournamentId, Long cursor, Integer limit) {
+        int pageSize = pageSizeOf(limit);
+        List<TeamDTO> teams = teamToTournamentMappingRepository.findTeamDTOsByTournamentId(tournamentId, afterIdOf(cursor),
+                PageRequest.ofSize(pageSize + 1));
+        return KeysetPage.of(teams, pageSize, TeamDTO::getTeamId);
+    }
+
+    private int pageSizeOf(Integer limit) throws InvalidRequestException {
+        if (limit == null) {
+            return tourniListingProperties.getDefaultPageSize();
+        }
+        if (limit < 1) {
+            throw new InvalidRequestException("limit must be at least 1");
+        }
+        return Math.min(limit, tourniListingProperties.getMaxPageSize());
+    }
+
+    // ids start at 1, no cursor reads from the first row
+    private static long afterIdOf(Long cursor) {
+        return cursor == null ? 0 : cursor;
+    }
+}
@@ -0,0 +1,156 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.utils.ApplicationConstants;
+import com.tournament.management.utils.NetRunRateCalculator;
+
+/**
+ * Rules that turn a match result into team stats and points table changes.
+ * Shared by the match result observers and the in-memory standings engine so that
+ * both always agree on how a result is counted.
+ */
+public class MatchResultRules {
+
+    private MatchResultRules() {
+        // Utility class
+    }
+
+    public static boolean updatesTeamStats(ApplicationConstants.MatchResultStatus matchResultStatus) {
+        return matchResultStatus != ApplicationConstants.MatchResultStatus.NO_RESULT;
+    }
+
+    /*
+     * Points table part of the result: played, won, lost, tied, no result and points.
+     * Returns the deltas of team one and team two, in that order.
+     */
+    public static TeamResultDelta[] computePointsDeltas(AddMatchResultRequest matchResultRequest) {
+        final long teamOneId = matchResultRequest.getTeamOneId();
+        final long teamTwoId = matchResultRequest.getTeamTwoId();
+
+        TeamResultDelta.TeamResultDeltaBuilder teamOne = TeamResultDelta.builder().teamId(teamOneId).played(1);
+        TeamResultDelta.TeamResultDeltaBuilder teamTwo = TeamResultDelta.builder().teamId(teamTwoId).played(1);
+
+        ApplicationConstants.MatchResultStatus matchResultStatus = matchResultRequest.getMatchResultStatus();
+
+        if (matchResultStatus == ApplicationConstants.MatchResultStatus.COMPLETED) {
+
+            long winnerTeamId = matchResultRequest.getWinnerTeamId();
+
+            if (winnerTeamId == teamOneId) {
+                teamOne.won(1).points(ApplicationConstants.NO_POINTS_FOR_WIN);
+                teamTwo.lost(1);
+            } else if (winnerTeamId == teamTwoId) {
+                teamTwo.won(1).points(ApplicationConstants.NO_POINTS_FOR_WIN);
+                teamOne.lost(1);
+            }
+
+            teamOne.updatesNetRunRate(true);
+            teamTwo.updatesNetRunRate(true);
+
+        } else if (matchResultStatus == ApplicationConstants.MatchResultStatus.TIED) {
+            teamOne.tied(1).updatesNetRunRate(true);
+            teamTwo.tied(1).updatesNetRunRate(true);
+        } else if (matchResultStatus == ApplicationConstants.MatchResultStatus.NO_RESULT) {
+            teamOne.noResult(1);
+            teamTwo.noResult(1);
+        }
+
+        return new TeamResultDelta[]{teamOne.build(), teamTwo.build()};
+    }
+
+    /*
+     * Full result: points table part plus runs and balls for the team stats.
+     * Balls faced are the tournament's maximum overs when a team is all out.
+     */
+    public static TeamResultDelta[] computeDeltas(AddMatchResultRequest matchResultRequest, int maximumOversPerMatch) {
+        TeamResultDelta[] pointsDeltas = computePointsDeltas(matchResultRequest);
+
+        if (!updatesTeamStats(matchResultRequest.getMatchResultStatus())) {
+            return pointsDeltas;
+        }
+
+        int teamOneScore = matchResultRequest.getTeamOneScore();
+        int teamTwoScore = matchResultRequest.getTeamTwoScore();
+
+        int teamOneBallsFaced = NetRunRateCalculator.ballsFaced(matchResultRequest.getTeamOneOversPlayed(), maximumOversPerMatch, matchResultRequest.getTeamOneWickets());
+        int teamTwoBallsFaced = NetRunRateCalculator.ballsFaced(matchResultRequest.getTeamTwoOversPlayed(), maximumOversPerMatch, matchResultRequest.getTeamTwoWickets());
+
+        TeamResultDelta teamOne = pointsDeltas[0].toBuilder()
+                .runsScored(teamOneScore)
+                .ballsFaced(teamOneBallsFaced)
+                .runsConceded(teamTwoScore)
+                .ballsBowled(teamTwoBallsFaced)
+                .build();
+
+        TeamResultDelta teamTwo = pointsDeltas[1].toBuilder()
+                .runsScored(teamTwoScore)
+                .ballsFaced(teamTwoBallsFaced)
+                .runsConceded(teamOneScore)
+                .ballsBowled(teamOneBallsFaced)
+                .build();
+
+        return new TeamResultDelta[]{teamOne, teamTwo};
+    }
+
+    /*
+     * Same as computeDeltas for a request, for results already saved
+     */
+    public static TeamResultDelta[] computeDeltas(MatchResult matchResult, int maximumOversPerMatch) {
+        return computeDeltas(toMatchResultRequest(matchResult), maximumOversPerMatch);
+    }
+
+    public static AddMatchResultRequest toMatchResultRequest(MatchResult matchResult) {
+        AddMatchResultRequest matchResultRequest = new AddMatchResultRequest();
+        matchResultRequest.setMatchNumber((int) matchResult.getMatchNumber());
+        matchResultRequest.setTournamentId(matchResult.getTournamentId());
+        matchResultRequest.setWinnerTeamId(matchResult.getWinnerTeamId());
+        matchResultRequest.setLoserTeamId(matchResult.getLoserTeamId());
+        matchResultRequest.setTeamOneId(matchResult.getTeamOneId());
+        matchResultRequest.setTeamTwoId(matchResult.getTeamTwoId());
+        matchResultRequest.setTeamOneScore(matchResult.getTeamOneScore());
+        matchResultRequest.setTeamTwoScore(matchResult.getTeamTwoScore());
+        matchResultRequest.setTeamOneWickets(matchResult.getTeamOneWickets());
+        matchResultRequest.setTeamTwoWickets(matchResult.getTeamTwoWickets());
+        matchResultRequest.setTeamOneOversPlayed(matchResult.getTeamOneOversPlayed());
+        matchResultRequest.setTeamTwoOversPlayed(matchResult.getTeamTwoOversPlayed());
+        matchResultRequest.setMatchResultStatus(ApplicationConstants.MatchResultStatus.valueOf(matchResult.getMatchResultStatus()));
+        return matchResultRequest;
+    }
+
+    public static void applyToTeamStats(TeamStats teamStats, TeamResultDelta delta) {
+        teamStats.setTotalRunsScored(teamStats.getTotalRunsScored() + delta.getRunsScored());
+        teamStats.setTotalBallsFaced(teamStats.getTotalBallsFaced() + delta.getBallsFaced());
+        teamStats.setTotalRunsConceded(teamStats.getTotalRunsConceded() + delta.getRunsConceded());
+        teamStats.setTotalBallsBowled(teamStats.getTotalBallsBowled() + delta.getBallsBowled());
+    }
+
+    /*
+     * teamStats must already include this result, net run rate is calculated from the updated totals
+     */
+    public static void applyToPointsTable(PointsTable pointsTable, TeamResultDelta delta, TeamStats teamStats) {
+        pointsTable.setPlayed(pointsTable.getPlayed() + delta.getPlayed());
+        pointsTable.setWon(pointsTable.getWon() + delta.getWon());
+        pointsTable.setLost(pointsTable.getLost() + delta.getLost());
+        pointsTable.setTied(pointsTable.getTied() + delta.getTied());
+        pointsTable.setNoResult(pointsTable.getNoResult() + delta.getNoResult());
+        pointsTable.setPoints(pointsTable.getPoints() + delta.getPoints());
+
+        if (delta.isUpdatesNetRunRate()) {
+            pointsTable.setNetMatchRate(netRunRateOf(teamStats));
+        }
+    }
+
+    /*
+     * Net run rate of the team's totals, 0 until the team has both faced and bowled a ball: after the team's only
+     * result was deleted, or when a completed result records 0.0 overs for one side
+     */
+    public static double netRunRateOf(TeamStats teamStats) {
+        if (teamStats.getTotalBallsFaced() == 0 || teamStats.getTotalBallsBowled() == 0) {
+            return 0;
+        }
+        return NetRunRateCalculator.calculateNetRunRate(teamStats.getTotalRunsScored(), teamStats.getTotalBallsFaced(), teamStats.getTotalRunsConceded(), teamStats.getTotalBallsBowled());
+    }
+}
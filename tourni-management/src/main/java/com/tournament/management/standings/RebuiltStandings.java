@@ -0,0 +1,38 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.dto.StandingsDifference;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Outcome of replaying the match results of one tournament
+ */
+@Getter
+@AllArgsConstructor
+class RebuiltStandings {
+
+    private final long tournamentId;
+
+    /*
+     * Count, version sum and id sum of the replayed match_result rows, compared again before the swap
+     * to detect results recorded, changed or replaced in the meantime
+     */
+    private final long matchResultCount;
+
+    private final long matchResultVersionSum;
+
+    private final long matchResultIdSum;
+
+    // rebuilt standings of the teams whose live rows differ
+    private final List<TeamStanding> changedStandings;
+
+    private final List<StandingsDifference> differences;
+
+    private final boolean replayed;
+
+    boolean hasDifferences() {
+        return !differences.isEmpty();
+    }
+}
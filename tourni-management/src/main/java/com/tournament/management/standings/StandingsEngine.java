@@ -0,0 +1,207 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.dto.PointsTableDTO;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.Team;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.repository.PointsTableRepository;
+import com.tournament.management.repository.TeamRepository;
+import com.tournament.management.repository.TeamStatsRepository;
+import com.tournament.management.repository.TournamentRepository;
+import com.tournament.management.repository.projection.TableVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the standings of every active tournament in memory.
+ *
+ * - Built from points_table and team_stats on startup, the database stays the system of record
+ * - Every saved match result is applied as a delta using {@link MatchResultRules}
+ * - Periodically reconciled against the database, see {@link TournamentStandings#reconcile(List)}
+ *
+ * Tournaments that are not tracked (inactive, failed to load or engine disabled) are served from the database.
+ */
+@Component
+@Slf4j
+public class StandingsEngine {
+
+    private final PointsTableRepository pointsTableRepository;
+    private final TeamStatsRepository teamStatsRepository;
+    private final TeamRepository teamRepository;
+    private final TournamentRepository tournamentRepository;
+
+    private final Map<Long, TournamentStandings> standingsByTournamentId = new ConcurrentHashMap<>();
+
+    private final Counter correctedRowsCounter;
+
+    private final boolean enabled;
+
+    public StandingsEngine(PointsTableRepository pointsTableRepository,
+                           TeamStatsRepository teamStatsRepository,
+                           TeamRepository teamRepository,
+                           TournamentRepository tournamentRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${tourni.standings.enabled:true}") boolean enabled) {
+        this.pointsTableRepository = pointsTableRepository;
+        this.teamStatsRepository = teamStatsRepository;
+        this.teamRepository = teamRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.enabled = enabled;
+
+        this.correctedRowsCounter = Counter.builder("tourni.standings.reconcile.corrected")
+                .description("Standings rows that differed from the database and were corrected")
+                .register(meterRegistry);
+        meterRegistry.gauge("tourni.standings.tournaments", standingsByTournamentId, Map::size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void loadActiveTournaments() {
+        if (!enabled) {
+            log.info("Standings engine is disabled, points tables will be served from the database");
+            return;
+        }
+
+        for (Tournament tournament : tournamentRepository.findActiveTournaments()) {
+            try {
+                TournamentStandings tournamentStandings = new TournamentStandings(tournament.getTournamentId(),
+                        tournament.getMaximumOversPerMatch(), loadTeamStandings(tournament.getTournamentId()));
+                standingsByTournamentId.put(tournament.getTournamentId(), tournamentStandings);
+            } catch (RuntimeException e) {
+                log.error("Unable to load standings for tournament id: {}", tournament.getTournamentId(), e);
+            }
+        }
+
+        log.info("Standings engine loaded {} tournaments", standingsByTournamentId.size());
+    }
+
+    public boolean isTracking(Long tournamentId) {
+        return tournamentId != null && standingsByTournamentId.containsKey(tournamentId);
+    }
+
+    public Optional<List<PointsTableDTO>> getPointsTable(Long tournamentId) {
+        return Optional.ofNullable(standingsByTournamentId.get(tournamentId))
+                .map(TournamentStandings::getPointsTable);
+    }
+
+    public Optional<TableVersion> getVersion(Long tournamentId) {
+        return Optional.ofNullable(standingsByTournamentId.get(tournamentId))
+                .map(TournamentStandings::getVersion);
+    }
+
+    /*
+     * Must be called once the match result has been saved. If the result cannot be applied the tournament
+     * is dropped from the engine and served from the database until the next restart.
+     */
+    public void applyMatchResult(AddMatchResultRequest matchResultRequest) {
+        TournamentStandings tournamentStandings = standingsByTournamentId.get(matchResultRequest.getTournamentId());
+        if (tournamentStandings == null) {
+            return;
+        }
+
+        try {
+            tournamentStandings.apply(MatchResultRules.computeDeltas(matchResultRequest, tournamentStandings.getMaximumOversPerMatch()));
+        } catch (RuntimeException e) {
+            log.error("Unable to apply match result to standings of tournament id: {}, falling back to database", matchResultRequest.getTournamentId(), e);
+            standingsByTournamentId.remove(matchResultRequest.getTournamentId());
+        }
+    }
+
+    /*
+     * Catches up with results written by other instances, rows whose database version is ahead
+     * of the in-memory one are replaced with the database rows
+     */
+    public void reload(Long tournamentId) {
+        TournamentStandings tournamentStandings = standingsByTournamentId.get(tournamentId);
+        if (tournamentStandings == null) {
+            return;
+        }
+
+        try {
+            tournamentStandings.catchUp(loadTeamStandings(tournamentId));
+        } catch (RuntimeException e) {
+            log.error("Unable to reload standings of tournament id: {}, falling back to database", tournamentId, e);
+            standingsByTournamentId.remove(tournamentId);
+        }
+    }
+
+    /*
+     * Replaces the in-memory standings of a tournament with the database rows, used after the rows were rewritten
+     */
+    public void resetFromDatabase(Long tournamentId) {
+        TournamentStandings tournamentStandings = standingsByTournamentId.get(tournamentId);
+        if (tournamentStandings == null) {
+            return;
+        }
+
+        try {
+            standingsByTournamentId.put(tournamentId, new TournamentStandings(tournamentId,
+                    tournamentStandings.getMaximumOversPerMatch(), loadTeamStandings(tournamentId)));
+        } catch (RuntimeException e) {
+            log.error("Unable to reset standings of tournament id: {}, falling back to database", tournamentId, e);
+            standingsByTournamentId.remove(tournamentId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tourni.standings.reconcile-interval-ms:300000}",
+            initialDelayString = "${tourni.standings.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        for (TournamentStandings tournamentStandings : standingsByTournamentId.values()) {
+            long tournamentId = tournamentStandings.getTournamentId();
+            try {
+                int corrected = tournamentStandings.reconcile(loadTeamStandings(tournamentId));
+                if (corrected > 0) {
+                    log.warn("Standings of tournament id: {} differed from the database, {} rows corrected", tournamentId, corrected);
+                    correctedRowsCounter.increment(corrected);
+                }
+            } catch (RuntimeException e) {
+                log.error("Unable to reconcile standings for tournament id: {}", tournamentId, e);
+            }
+        }
+    }
+
+    private List<TeamStanding> loadTeamStandings(long tournamentId) {
+        List<PointsTable> pointsTableList = pointsTableRepository.findByTournamentId(tournamentId).orElse(List.of());
+
+        Map<Long, TeamStats> teamStatsByTeamId = teamStatsRepository.findByTournamentId(tournamentId).stream()
+                .collect(Collectors.toMap(TeamStats::getTeamId, Function.identity()));
+
+        List<Long> teamIds = pointsTableList.stream().map(PointsTable::getTeamId).toList();
+        Map<Long, String> teamNamesByTeamId = teamRepository.findTeamsByTeamIds(teamIds).orElse(List.of()).stream()
+                .collect(Collectors.toMap(Team::getTeamId, Team::getTeamName));
+
+        List<TeamStanding> teamStandings = new ArrayList<>();
+        for (PointsTable pointsTable : pointsTableList) {
+            String teamName = teamNamesByTeamId.get(pointsTable.getTeamId());
+            if (teamName == null) {
+                // inactive teams are not part of the points table
+                continue;
+            }
+
+            TeamStats teamStats = teamStatsByTeamId.get(pointsTable.getTeamId());
+            if (teamStats == null) {
+                throw new IllegalStateException("No stats found with teamId: " + pointsTable.getTeamId() + " and tournamentId: " + tournamentId);
+            }
+
+            teamStandings.add(new TeamStanding(teamName, pointsTable, teamStats));
+        }
+        return teamStandings;
+    }
+}
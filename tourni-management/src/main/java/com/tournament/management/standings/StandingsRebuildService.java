@@ -0,0 +1,269 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.dto.StandingsDifference;
+import com.tournament.management.dto.StandingsRebuildReport;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.events.MatchResultRecordedEvent;
+import com.tournament.management.exceptions.InvalidRequestException;
+import com.tournament.management.exceptions.RecordNotFoundException;
+import com.tournament.management.repository.PointsTableRepository;
+import com.tournament.management.repository.TeamStatsRepository;
+import com.tournament.management.repository.TournamentRepository;
+import com.tournament.management.utils.ApplicationConstants.MatchResultEventType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Regenerates team_stats and points_table from match_result, for when the incrementally maintained rows drifted.
+ *
+ * Results are streamed ordered by tournament; each tournament is replayed through MatchResultRules on a fork-join pool
+ * while the next one is still being read. Rows that differ from the live tables are reported and, unless it is a
+ * dry run, written tournament by tournament on the tournament's write stripe. Tournaments that received results
+ * meanwhile are skipped.
+ */
+@Service
+@Slf4j
+public class StandingsRebuildService {
+
+    private static final double DOUBLE_TOLERANCE = 1e-9;
+
+    private final StandingsRebuildStore standingsRebuildStore;
+    private final TournamentRepository tournamentRepository;
+    private final PointsTableRepository pointsTableRepository;
+    private final TeamStatsRepository teamStatsRepository;
+    private final StandingsEngine standingsEngine;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StandingsRebuildService(StandingsRebuildStore standingsRebuildStore,
+                                   TournamentRepository tournamentRepository,
+                                   PointsTableRepository pointsTableRepository,
+                                   TeamStatsRepository teamStatsRepository,
+                                   StandingsEngine standingsEngine,
+                                   ApplicationEventPublisher applicationEventPublisher,
+                                   @Value("${tourni.rebuild.parallelism:0}") int parallelism) {
+        this.standingsRebuildStore = standingsRebuildStore;
+        this.tournamentRepository = tournamentRepository;
+        this.pointsTableRepository = pointsTableRepository;
+        this.teamStatsRepository = teamStatsRepository;
+        this.standingsEngine = standingsEngine;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /*
+     * Rebuilds one tournament, or all of them when tournamentId is null
+     */
+    public StandingsRebuildReport rebuild(Long tournamentId, boolean dryRun) throws InvalidRequestException, RecordNotFoundException {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidRequestException("A standings rebuild is already running");
+        }
+
+        try {
+            return doRebuild(tournamentId, dryRun);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private StandingsRebuildReport doRebuild(Long tournamentId, boolean dryRun) {
+        Map<Long, Tournament> tournamentsById = (tournamentId == null
+                ? tournamentRepository.findAll()
+                : List.of(tournamentRepository.findById(tournamentId).orElseThrow(() -> new RecordNotFoundException("No tournament not found for given id : " + tournamentId))))
+                .stream()
+                .collect(Collectors.toMap(Tournament::getTournamentId, Function.identity()));
+
+        long startNanos = System.nanoTime();
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        Map<Long, ForkJoinTask<RebuiltStandings>> tasksByTournamentId = new LinkedHashMap<>();
+        long matchResultsReplayed;
+
+        try {
+            List<MatchResult> currentTournamentResults = new ArrayList<>();
+
+            matchResultsReplayed = standingsRebuildStore.streamMatchResults(tournamentId, matchResult -> {
+                if (!currentTournamentResults.isEmpty() && currentTournamentResults.get(0).getTournamentId() != matchResult.getTournamentId()) {
+                    submit(forkJoinPool, tasksByTournamentId, tournamentsById, currentTournamentResults);
+                    currentTournamentResults.clear();
+                }
+                currentTournamentResults.add(matchResult);
+            });
+            if (!currentTournamentResults.isEmpty()) {
+                submit(forkJoinPool, tasksByTournamentId, tournamentsById, currentTournamentResults);
+            }
+
+            // tournaments without results are rebuilt to empty standings
+            for (Tournament tournament : tournamentsById.values()) {
+                if (!tasksByTournamentId.containsKey(tournament.getTournamentId())) {
+                    tasksByTournamentId.put(tournament.getTournamentId(), forkJoinPool.submit(() -> replay(tournament, List.of())));
+                }
+            }
+
+            List<RebuiltStandings> rebuiltStandingsList = new ArrayList<>();
+            List<Long> skippedTournamentIds = new ArrayList<>();
+            for (Map.Entry<Long, ForkJoinTask<RebuiltStandings>> task : tasksByTournamentId.entrySet()) {
+                try {
+                    rebuiltStandingsList.add(task.getValue().join());
+                } catch (RuntimeException e) {
+                    log.error("Unable to replay match results of tournament id: {}", task.getKey(), e);
+                    skippedTournamentIds.add(task.getKey());
+                }
+            }
+
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            List<StandingsDifference> differences = rebuiltStandingsList.stream()
+                    .flatMap(rebuiltStandings -> rebuiltStandings.getDifferences().stream())
+                    .toList();
+
+            List<RebuiltStandings> toSwap = rebuiltStandingsList.stream()
+                    .filter(RebuiltStandings::isReplayed)
+                    .filter(RebuiltStandings::hasDifferences)
+                    .toList();
+            rebuiltStandingsList.stream()
+                    .filter(rebuiltStandings -> !rebuiltStandings.isReplayed())
+                    .forEach(rebuiltStandings -> skippedTournamentIds.add(rebuiltStandings.getTournamentId()));
+
+            List<Long> rebuiltTournamentIds = List.of();
+            if (!dryRun && !toSwap.isEmpty()) {
+                rebuiltTournamentIds = standingsRebuildStore.swap(toSwap);
+                for (RebuiltStandings rebuiltStandings : toSwap) {
+                    if (!rebuiltTournamentIds.contains(rebuiltStandings.getTournamentId())) {
+                        skippedTournamentIds.add(rebuiltStandings.getTournamentId());
+                    }
+                }
+                rebuiltTournamentIds.forEach(rebuiltTournamentId -> {
+                    standingsEngine.resetFromDatabase(rebuiltTournamentId);
+                    applicationEventPublisher.publishEvent(new MatchResultRecordedEvent(rebuiltTournamentId, MatchResultEventType.REBUILT, null));
+                });
+            }
+
+            double matchResultsPerSecond = elapsedNanos == 0 ? 0 : matchResultsReplayed * 1_000_000_000d / elapsedNanos;
+            log.info("Replayed {} match results of {} tournaments in {} ms ({} results/s), {} differences, rebuilt tournaments: {}, dry run: {}",
+                    matchResultsReplayed, tasksByTournamentId.size(), elapsedNanos / 1_000_000, Math.round(matchResultsPerSecond),
+                    differences.size(), rebuiltTournamentIds, dryRun);
+
+            return new StandingsRebuildReport(dryRun, matchResultsReplayed, tasksByTournamentId.size(), elapsedNanos / 1_000_000,
+                    matchResultsPerSecond, differences, rebuiltTournamentIds, skippedTournamentIds);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private void submit(ForkJoinPool forkJoinPool,
+                        Map<Long, ForkJoinTask<RebuiltStandings>> tasksByTournamentId,
+                        Map<Long, Tournament> tournamentsById,
+                        List<MatchResult> matchResults) {
+        long tournamentId = matchResults.get(0).getTournamentId();
+        Tournament tournament = tournamentsById.get(tournamentId);
+        List<MatchResult> tournamentResults = List.copyOf(matchResults);
+
+        if (tournament == null) {
+            log.warn("Ignoring {} match results of unknown tournament id: {}", tournamentResults.size(), tournamentId);
+            return;
+        }
+        tasksByTournamentId.put(tournamentId, forkJoinPool.submit(() -> replay(tournament, tournamentResults)));
+    }
+
+    private RebuiltStandings replay(Tournament tournament, List<MatchResult> matchResults) {
+        long tournamentId = tournament.getTournamentId();
+
+        List<PointsTable> livePointsTables = pointsTableRepository.findByTournamentId(tournamentId).orElse(List.of());
+        Map<Long, TeamStats> liveTeamStatsByTeamId = teamStatsRepository.findByTournamentId(tournamentId).stream()
+                .collect(Collectors.toMap(TeamStats::getTeamId, Function.identity()));
+
+        List<StandingsDifference> differences = new ArrayList<>();
+        Map<Long, TeamStanding> rebuiltByTeamId = new LinkedHashMap<>();
+        Map<Long, TeamStanding> liveByTeamId = new HashMap<>();
+
+        for (PointsTable livePointsTable : livePointsTables) {
+            TeamStats liveTeamStats = liveTeamStatsByTeamId.get(livePointsTable.getTeamId());
+            if (liveTeamStats == null) {
+                differences.add(new StandingsDifference(tournamentId, livePointsTable.getTeamId(), "teamStats", "missing", "required"));
+                continue;
+            }
+            liveByTeamId.put(livePointsTable.getTeamId(), new TeamStanding(null, livePointsTable, liveTeamStats));
+            rebuiltByTeamId.put(livePointsTable.getTeamId(), TeamStanding.emptyLike(livePointsTable, liveTeamStats));
+        }
+
+        long versionSum = 0;
+        long idSum = 0;
+        boolean replayed = differences.isEmpty();
+
+        for (MatchResult matchResult : matchResults) {
+            versionSum += Objects.requireNonNullElse(matchResult.getVersion(), 0L);
+            idSum += matchResult.getMatchId();
+
+            for (TeamResultDelta delta : MatchResultRules.computeDeltas(matchResult, tournament.getMaximumOversPerMatch())) {
+                TeamStanding rebuilt = rebuiltByTeamId.get(delta.getTeamId());
+                if (rebuilt == null) {
+                    differences.add(new StandingsDifference(tournamentId, delta.getTeamId(), "pointsTable",
+                            "missing", "required by match " + matchResult.getMatchNumber()));
+                    replayed = false;
+                    continue;
+                }
+                rebuilt.apply(delta);
+            }
+        }
+
+        List<TeamStanding> changedStandings = new ArrayList<>();
+        for (TeamStanding rebuilt : rebuiltByTeamId.values()) {
+            List<StandingsDifference> teamDifferences = compare(tournamentId, liveByTeamId.get(rebuilt.getTeamId()), rebuilt);
+            if (!teamDifferences.isEmpty()) {
+                differences.addAll(teamDifferences);
+                changedStandings.add(rebuilt);
+            }
+        }
+
+        return new RebuiltStandings(tournamentId, matchResults.size(), versionSum, idSum, changedStandings, differences, replayed);
+    }
+
+    private static List<StandingsDifference> compare(long tournamentId, TeamStanding live, TeamStanding rebuilt) {
+        List<StandingsDifference> differences = new ArrayList<>();
+        long teamId = rebuilt.getTeamId();
+
+        PointsTable livePoints = live.getPointsTable();
+        PointsTable rebuiltPoints = rebuilt.getPointsTable();
+        compare(differences, tournamentId, teamId, "played", livePoints.getPlayed(), rebuiltPoints.getPlayed());
+        compare(differences, tournamentId, teamId, "won", livePoints.getWon(), rebuiltPoints.getWon());
+        compare(differences, tournamentId, teamId, "lost", livePoints.getLost(), rebuiltPoints.getLost());
+        compare(differences, tournamentId, teamId, "tied", livePoints.getTied(), rebuiltPoints.getTied());
+        compare(differences, tournamentId, teamId, "noResult", livePoints.getNoResult(), rebuiltPoints.getNoResult());
+        compare(differences, tournamentId, teamId, "points", livePoints.getPoints(), rebuiltPoints.getPoints());
+        compare(differences, tournamentId, teamId, "netMatchRate", livePoints.getNetMatchRate(), rebuiltPoints.getNetMatchRate());
+
+        TeamStats liveStats = live.getTeamStats();
+        TeamStats rebuiltStats = rebuilt.getTeamStats();
+        compare(differences, tournamentId, teamId, "totalRunsScored", liveStats.getTotalRunsScored(), rebuiltStats.getTotalRunsScored());
+        compare(differences, tournamentId, teamId, "totalBallsFaced", liveStats.getTotalBallsFaced(), rebuiltStats.getTotalBallsFaced());
+        compare(differences, tournamentId, teamId, "totalRunsConceded", liveStats.getTotalRunsConceded(), rebuiltStats.getTotalRunsConceded());
+        compare(differences, tournamentId, teamId, "totalBallsBowled", liveStats.getTotalBallsBowled(), rebuiltStats.getTotalBallsBowled());
+
+        return differences;
+    }
+
+    private static void compare(List<StandingsDifference> differences, long tournamentId, long teamId, String field, double live, double rebuilt) {
+        if (Math.abs(live - rebuilt) > DOUBLE_TOLERANCE) {
+            differences.add(new StandingsDifference(tournamentId, teamId, field, format(live), format(rebuilt)));
+        }
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : Double.toString(value);
+    }
+}
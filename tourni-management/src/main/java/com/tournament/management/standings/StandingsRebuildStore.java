@@ -0,0 +1,129 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.repository.MatchResultRepository;
+import com.tournament.management.service.MatchResultWriteScheduler;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.auditing.DateTimeProvider;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Database side of the standings rebuild: streaming match results and swapping the rebuilt rows in.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class StandingsRebuildStore {
+
+    private static final String LOCK_TEAM_STATS = "SELECT team_stats_id FROM team_stats WHERE tournament_id = ? FOR UPDATE";
+    private static final String LOCK_POINTS_TABLE = "SELECT points_table_id FROM points_table WHERE tournament_id = ? FOR UPDATE";
+
+    // locking read, sees the latest committed rows and blocks new results of the tournament until the swap commits.
+    // The id sum catches a result deleted and recorded again under the same match number at version 0
+    private static final String MATCH_RESULT_CHECKSUM = "SELECT COUNT(*), COALESCE(SUM(COALESCE(version, 0)), 0), COALESCE(SUM(match_id), 0) " +
+            "FROM match_result WHERE tournament_id = ? AND is_active = true LOCK IN SHARE MODE";
+
+    private static final String UPDATE_TEAM_STATS = "UPDATE team_stats SET total_runs_scored = ?, total_balls_faced = ?, " +
+            "total_runs_conceded = ?, total_balls_bowled = ?, version = COALESCE(version, 0) + 1, " +
+            "record_updated_date = ?, record_updated_by = ? WHERE team_stats_id = ?";
+
+    private static final String UPDATE_POINTS_TABLE = "UPDATE points_table SET played = ?, won = ?, lost = ?, tied = ?, " +
+            "no_result = ?, points = ?, net_match_rate = ?, version = COALESCE(version, 0) + 1, " +
+            "record_updated_date = ?, record_updated_by = ? WHERE points_table_id = ?";
+
+    private final MatchResultRepository matchResultRepository;
+    private final MatchResultWriteScheduler matchResultWriteScheduler;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorProvider;
+    private final DateTimeProvider auditingDateTimeProvider;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /*
+     * Hands every active match result, detached, to the consumer without holding them all in memory
+     */
+    @Transactional(readOnly = true)
+    public long streamMatchResults(Long tournamentId, Consumer<MatchResult> consumer) {
+        long count = 0;
+        try (Stream<MatchResult> matchResults = matchResultRepository.streamActiveMatchResults(tournamentId)) {
+            for (MatchResult matchResult : (Iterable<MatchResult>) matchResults::iterator) {
+                entityManager.detach(matchResult);
+                consumer.accept(matchResult);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /*
+     * Writes the rebuilt rows of every tournament whose results are unchanged since the replay.
+     * Each tournament is written in its own transaction on its write stripe, so the swap is ordered with the
+     * tournament's match result writes instead of racing them. Returns the ids of the tournaments that were written.
+     */
+    public List<Long> swap(List<RebuiltStandings> rebuiltStandingsList) {
+        List<Long> swappedTournamentIds = new ArrayList<>();
+        for (RebuiltStandings rebuiltStandings : rebuiltStandingsList) {
+            long tournamentId = rebuiltStandings.getTournamentId();
+            if (matchResultWriteScheduler.execute(tournamentId, () -> swapTournament(rebuiltStandings))) {
+                swappedTournamentIds.add(tournamentId);
+            }
+        }
+        return swappedTournamentIds;
+    }
+
+    /*
+     * Same lock order as the match result writes (match_result, team_stats, points_table), which also covers
+     * writers of other instances that do not share the stripes
+     */
+    private boolean swapTournament(RebuiltStandings rebuiltStandings) {
+        long tournamentId = rebuiltStandings.getTournamentId();
+
+        boolean unchanged = Boolean.TRUE.equals(jdbcTemplate.queryForObject(MATCH_RESULT_CHECKSUM,
+                (resultSet, rowNum) -> resultSet.getLong(1) == rebuiltStandings.getMatchResultCount()
+                        && resultSet.getLong(2) == rebuiltStandings.getMatchResultVersionSum()
+                        && resultSet.getLong(3) == rebuiltStandings.getMatchResultIdSum(),
+                tournamentId));
+        if (!unchanged) {
+            log.warn("Match results of tournament id: {} changed during the rebuild, standings left unchanged", tournamentId);
+            return false;
+        }
+
+        jdbcTemplate.queryForList(LOCK_TEAM_STATS, Long.class, tournamentId);
+        jdbcTemplate.queryForList(LOCK_POINTS_TABLE, Long.class, tournamentId);
+
+        Timestamp updatedDate = Timestamp.valueOf(auditingDateTimeProvider.getNow().map(LocalDateTime::from).orElseGet(LocalDateTime::now));
+        String updatedBy = auditorProvider.getCurrentAuditor().orElse("system");
+
+        List<Object[]> teamStatsArgs = new ArrayList<>();
+        List<Object[]> pointsTableArgs = new ArrayList<>();
+        for (TeamStanding teamStanding : rebuiltStandings.getChangedStandings()) {
+            TeamStats teamStats = teamStanding.getTeamStats();
+            teamStatsArgs.add(new Object[]{teamStats.getTotalRunsScored(), teamStats.getTotalBallsFaced(),
+                    teamStats.getTotalRunsConceded(), teamStats.getTotalBallsBowled(), updatedDate, updatedBy, teamStats.getTeamStatsId()});
+
+            PointsTable pointsTable = teamStanding.getPointsTable();
+            pointsTableArgs.add(new Object[]{pointsTable.getPlayed(), pointsTable.getWon(), pointsTable.getLost(), pointsTable.getTied(),
+                    pointsTable.getNoResult(), pointsTable.getPoints(), pointsTable.getNetMatchRate(), updatedDate, updatedBy, pointsTable.getPointsTableId()});
+        }
+        jdbcTemplate.batchUpdate(UPDATE_TEAM_STATS, teamStatsArgs);
+        jdbcTemplate.batchUpdate(UPDATE_POINTS_TABLE, pointsTableArgs);
+
+        return true;
+    }
+}
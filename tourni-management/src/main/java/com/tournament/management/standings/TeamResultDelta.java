@@ -0,0 +1,69 @@
+package com.tournament.management.standings;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Change a single match result applies to one team's team stats and points table row.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class TeamResultDelta {
+
+    private final long teamId;
+
+    private final int runsScored;
+
+    private final int ballsFaced;
+
+    private final int runsConceded;
+
+    private final int ballsBowled;
+
+    private final int played;
+
+    private final int won;
+
+    private final int lost;
+
+    private final int tied;
+
+    private final int noResult;
+
+    private final int points;
+
+    /*
+     * Net run rate is only recalculated for results that change the team stats
+     * (completed and tied matches)
+     */
+    private final boolean updatesNetRunRate;
+
+    /*
+     * Change that takes this result back out, used when a recorded result is corrected or deleted
+     */
+    public TeamResultDelta negate() {
+        return new TeamResultDelta(teamId, -runsScored, -ballsFaced, -runsConceded, -ballsBowled,
+                -played, -won, -lost, -tied, -noResult, -points, updatesNetRunRate);
+    }
+
+    /*
+     * Combined change of two results of the same team
+     */
+    public TeamResultDelta plus(TeamResultDelta other) {
+        return new TeamResultDelta(teamId,
+                runsScored + other.runsScored,
+                ballsFaced + other.ballsFaced,
+                runsConceded + other.runsConceded,
+                ballsBowled + other.ballsBowled,
+                played + other.played,
+                won + other.won,
+                lost + other.lost,
+                tied + other.tied,
+                noResult + other.noResult,
+                points + other.points,
+                updatesNetRunRate || other.updatesNetRunRate);
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.dto.PointsTableDTO;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.TeamStats;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * In-memory copy of one team's points table row and team stats within a tournament.
+ * Holds detached copies so the standings engine never touches managed entities.
+ */
+@Getter
+public class TeamStanding {
+
+    private final String teamName;
+
+    private final PointsTable pointsTable;
+
+    private final TeamStats teamStats;
+
+    public TeamStanding(String teamName, PointsTable pointsTable, TeamStats teamStats) {
+        this.teamName = teamName;
+        this.pointsTable = copyOf(pointsTable);
+        this.teamStats = copyOf(teamStats);
+    }
+
+    /*
+     * Standing of a team that has not played yet, keeping the row ids of the given rows
+     */
+    static TeamStanding emptyLike(PointsTable pointsTable, TeamStats teamStats) {
+        PointsTable emptyPointsTable = new PointsTable();
+        emptyPointsTable.setPointsTableId(pointsTable.getPointsTableId());
+        emptyPointsTable.setTournamentId(pointsTable.getTournamentId());
+        emptyPointsTable.setTeamId(pointsTable.getTeamId());
+
+        TeamStats emptyTeamStats = new TeamStats();
+        emptyTeamStats.setTeamStatsId(teamStats.getTeamStatsId());
+        emptyTeamStats.setTeamId(teamStats.getTeamId());
+        emptyTeamStats.setTournamentId(teamStats.getTournamentId());
+
+        return new TeamStanding(null, emptyPointsTable, emptyTeamStats);
+    }
+
+    public long getTeamId() {
+        return pointsTable.getTeamId();
+    }
+
+    /*
+     * Version of the backing points table row, every applied result bumps it by one
+     * exactly like the database row
+     */
+    public long getVersion() {
+        return Objects.requireNonNullElse(pointsTable.getVersion(), 0L);
+    }
+
+    void apply(TeamResultDelta delta) {
+        MatchResultRules.applyToTeamStats(teamStats, delta);
+        MatchResultRules.applyToPointsTable(pointsTable, delta, teamStats);
+        pointsTable.setVersion(getVersion() + 1);
+    }
+
+    boolean hasSameStandingAs(TeamStanding other) {
+        PointsTable otherPointsTable = other.getPointsTable();
+        return pointsTable.getPlayed() == otherPointsTable.getPlayed()
+                && pointsTable.getWon() == otherPointsTable.getWon()
+                && pointsTable.getLost() == otherPointsTable.getLost()
+                && pointsTable.getTied() == otherPointsTable.getTied()
+                && pointsTable.getNoResult() == otherPointsTable.getNoResult()
+                && pointsTable.getPoints() == otherPointsTable.getPoints()
+                && Double.compare(pointsTable.getNetMatchRate(), otherPointsTable.getNetMatchRate()) == 0;
+    }
+
+    PointsTableDTO toPointsTableDTO() {
+        return new PointsTableDTO(teamName, pointsTable.getPlayed(), pointsTable.getWon(), pointsTable.getLost(),
+                pointsTable.getTied(), pointsTable.getNoResult(), pointsTable.getPoints(), pointsTable.getNetMatchRate());
+    }
+
+    private static PointsTable copyOf(PointsTable source) {
+        PointsTable copy = new PointsTable();
+        copy.setPointsTableId(source.getPointsTableId());
+        copy.setTournamentId(source.getTournamentId());
+        copy.setTeamId(source.getTeamId());
+        copy.setPlayed(source.getPlayed());
+        copy.setWon(source.getWon());
+        copy.setLost(source.getLost());
+        copy.setTied(source.getTied());
+        copy.setNoResult(source.getNoResult());
+        copy.setPoints(source.getPoints());
+        copy.setNetMatchRate(source.getNetMatchRate());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+
+    private static TeamStats copyOf(TeamStats source) {
+        TeamStats copy = new TeamStats();
+        copy.setTeamStatsId(source.getTeamStatsId());
+        copy.setTeamId(source.getTeamId());
+        copy.setTournamentId(source.getTournamentId());
+        copy.setTotalRunsScored(source.getTotalRunsScored());
+        copy.setTotalBallsFaced(source.getTotalBallsFaced());
+        copy.setTotalRunsConceded(source.getTotalRunsConceded());
+        copy.setTotalBallsBowled(source.getTotalBallsBowled());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+}
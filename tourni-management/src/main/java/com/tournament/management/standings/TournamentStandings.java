@@ -0,0 +1,154 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.dto.PointsTableDTO;
+import com.tournament.management.repository.projection.TableVersion;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Standings of a single tournament. Writers are serialized on the instance,
+ * readers get an immutable snapshot that is already sorted by points and net run rate.
+ */
+public class TournamentStandings {
+
+    private static final Comparator<PointsTableDTO> POINTS_TABLE_ORDER = Comparator
+            .comparingInt(PointsTableDTO::getPoints).reversed()
+            .thenComparing(Comparator.comparingDouble(PointsTableDTO::getNetMatchRate).reversed());
+
+    @Getter
+    private final long tournamentId;
+
+    @Getter
+    private final int maximumOversPerMatch;
+
+    private final Map<Long, TeamStanding> teamStandings = new LinkedHashMap<>();
+
+    /*
+     * Database version seen for teams whose row version did not match the in-memory one
+     * on the previous reconciliation, see reconcile()
+     */
+    private final Map<Long, Long> laggingVersions = new HashMap<>();
+
+    private volatile Snapshot snapshot;
+
+    public TournamentStandings(long tournamentId, int maximumOversPerMatch, List<TeamStanding> teamStandings) {
+        this.tournamentId = tournamentId;
+        this.maximumOversPerMatch = maximumOversPerMatch;
+        teamStandings.forEach(teamStanding -> this.teamStandings.put(teamStanding.getTeamId(), teamStanding));
+        refreshPointsTable();
+    }
+
+    public List<PointsTableDTO> getPointsTable() {
+        return snapshot.getPointsTable();
+    }
+
+    /*
+     * Row count and version sum of the points table rows, matches
+     * PointsTableRepository.getPointsTableVersion once all applied results are committed
+     */
+    public TableVersion getVersion() {
+        return snapshot;
+    }
+
+    synchronized void apply(TeamResultDelta[] deltas) {
+        for (TeamResultDelta delta : deltas) {
+            TeamStanding teamStanding = teamStandings.get(delta.getTeamId());
+            if (teamStanding == null) {
+                throw new IllegalStateException("Team " + delta.getTeamId() + " is not part of tournament " + tournamentId);
+            }
+            teamStanding.apply(delta);
+        }
+        refreshPointsTable();
+    }
+
+    /*
+     * Compares the in-memory standings with the rows read from the database and adopts the database rows
+     * where they differ. A row is only compared when both sides have the same version, a version mismatch
+     * usually means a result was committed but not applied yet. If the same mismatch is still there on the
+     * next reconciliation the database row is adopted as well.
+     * Returns the number of rows that had to be corrected.
+     */
+    synchronized int reconcile(List<TeamStanding> databaseStandings) {
+        int corrected = 0;
+        Map<Long, TeamStanding> databaseStandingsByTeamId = new HashMap<>();
+
+        for (TeamStanding databaseStanding : databaseStandings) {
+            long teamId = databaseStanding.getTeamId();
+            databaseStandingsByTeamId.put(teamId, databaseStanding);
+
+            TeamStanding inMemoryStanding = teamStandings.get(teamId);
+
+            if (inMemoryStanding == null) {
+                teamStandings.put(teamId, databaseStanding);
+                corrected++;
+            } else if (inMemoryStanding.getVersion() == databaseStanding.getVersion()) {
+                laggingVersions.remove(teamId);
+                if (!inMemoryStanding.hasSameStandingAs(databaseStanding)) {
+                    teamStandings.put(teamId, databaseStanding);
+                    corrected++;
+                }
+            } else {
+                Long previousDatabaseVersion = laggingVersions.put(teamId, databaseStanding.getVersion());
+                if (previousDatabaseVersion != null && previousDatabaseVersion == databaseStanding.getVersion()) {
+                    laggingVersions.remove(teamId);
+                    teamStandings.put(teamId, databaseStanding);
+                    corrected++;
+                }
+            }
+        }
+
+        if (teamStandings.keySet().retainAll(databaseStandingsByTeamId.keySet())) {
+            corrected++;
+        }
+
+        if (corrected > 0) {
+            refreshPointsTable();
+        }
+
+        return corrected;
+    }
+
+    synchronized void catchUp(List<TeamStanding> databaseStandings) {
+        boolean changed = false;
+
+        for (TeamStanding databaseStanding : databaseStandings) {
+            TeamStanding inMemoryStanding = teamStandings.get(databaseStanding.getTeamId());
+            if (inMemoryStanding == null || inMemoryStanding.getVersion() < databaseStanding.getVersion()) {
+                teamStandings.put(databaseStanding.getTeamId(), databaseStanding);
+                laggingVersions.remove(databaseStanding.getTeamId());
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            refreshPointsTable();
+        }
+    }
+
+    private void refreshPointsTable() {
+        List<PointsTableDTO> pointsTable = teamStandings.values().stream()
+                .map(TeamStanding::toPointsTableDTO)
+                .sorted(POINTS_TABLE_ORDER)
+                .toList();
+        long versionSum = teamStandings.values().stream().mapToLong(TeamStanding::getVersion).sum();
+
+        snapshot = new Snapshot(pointsTable, pointsTable.size(), versionSum);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Snapshot implements TableVersion {
+
+        private final List<PointsTableDTO> pointsTable;
+
+        private final long rowCount;
+
+        private final long versionSum;
+    }
+}
@@ -11,6 +11,21 @@ public class ApplicationConstants {
         COMPLETED, TIED, NO_RESULT
     }
 
+    public enum MatchResultIngestionStatus {
+        PENDING, SAVED, DUPLICATE, REJECTED, FAILED
+    }
+
+    public enum MatchResultChangeType {
+        UPDATED, DELETED
+    }
+
+    /*
+     * REBUILT is only published in-process after a standings rebuild, it never goes to the outbox
+     */
+    public enum MatchResultEventType {
+        RECORDED, CORRECTED, DELETED, REBUILT
+    }
+
     public enum AppUserRole {
         ADMIN, USER
     }
@@ -3,38 +3,68 @@ package com.tournament.management.utils;
 import com.tournament.management.exceptions.InvalidRequestException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.math.BigDecimal;
+
+/**
+ * Overs are counted in balls: cricket notation 19.4 (19 overs and 4 balls) is 118 balls.
+ * Totals stay integers, so adding and reversing results never drifts, and net run rate is
+ * calculated from the exact ratio with a single rounding at the end.
+ */
 @Slf4j
 public class NetRunRateCalculator {
 
+    /*
+     * Balls in overs given in cricket notation, the digit after the point is the number of balls (0 to 5)
+     */
+    public static int toBalls(double oversNotation) throws InvalidRequestException {
+        if (!isValidOvers(oversNotation)) {
+            throw new InvalidRequestException("Overs " + oversNotation + " are not valid, use overs.balls with at most 5 balls e.g. 19.4");
+        }
+
+        // valueOf keeps the decimal digits as written, 19.4 does not become 19.39999...
+        BigDecimal notation = BigDecimal.valueOf(oversNotation);
+        int completedOvers = notation.intValue();
+        int balls = notation.subtract(BigDecimal.valueOf(completedOvers)).movePointRight(1).intValue();
+
+        return completedOvers * ApplicationConstants.NO_OF_BALLS_PER_OVER + balls;
+    }
+
+    public static boolean isValidOvers(double oversNotation) {
+        if (oversNotation < 0 || Double.isNaN(oversNotation) || Double.isInfinite(oversNotation)) {
+            return false;
+        }
+
+        BigDecimal ballsPart = BigDecimal.valueOf(oversNotation).remainder(BigDecimal.ONE).movePointRight(1);
+        return ballsPart.stripTrailingZeros().scale() <= 0 && ballsPart.intValue() < ApplicationConstants.NO_OF_BALLS_PER_OVER;
+    }
 
     /*
-     * Formula to calculate overs played:
+     * Formula to calculate balls faced:
      * If a team is all out in a match, then
      * the number of overs played = max number of overs available in the match
      * */
-    public static double adjustOversPlayed(double oversPlayed, int maxOvers, int noOfWicketsFell) {
+    public static int ballsFaced(double oversNotation, int maxOvers, int noOfWicketsFell) throws InvalidRequestException {
         if (noOfWicketsFell == ApplicationConstants.NO_OF_WICKETS_PER_MATCH) {
-            return maxOvers;
+            return maxOvers * ApplicationConstants.NO_OF_BALLS_PER_OVER;
         }
-
-        int overPlayedIntegerPart = (int) oversPlayed;
-        double overPlayedDecimalPart = (oversPlayed - overPlayedIntegerPart) * 10;
-
-        return (overPlayedIntegerPart * ApplicationConstants.NO_OF_BALLS_PER_OVER + overPlayedDecimalPart)
-                / ApplicationConstants.NO_OF_BALLS_PER_OVER;
+        return toBalls(oversNotation);
     }
 
     /*
      * Formula to calculate net run rate:
      * Net Run Rate = (Total Runs Scored / Total Overs Faced) - (Total Runs Conceded / Total Overs Bowled)
+     *              = 6 * (Runs Scored * Balls Bowled - Runs Conceded * Balls Faced) / (Balls Faced * Balls Bowled)
      */
-    public static double calculateNetRunRate(double runsScored, double oversPlayed, double runsConceded, double oversBowled) throws InvalidRequestException {
-        if (oversBowled <= 0 || oversPlayed <= 0) {
+    public static double calculateNetRunRate(long runsScored, long ballsFaced, long runsConceded, long ballsBowled) throws InvalidRequestException {
+        if (ballsBowled <= 0 || ballsFaced <= 0) {
 
-            String errrorMessage = "Overs bowled:" + oversBowled + "or overs played:" + oversPlayed + " cannot be zero";
-            log.error("Unable to calculate net run rate: {}", errrorMessage);
-            throw new InvalidRequestException(errrorMessage);
+            String errorMessage = "Balls bowled: " + ballsBowled + " or balls faced: " + ballsFaced + " cannot be zero";
+            log.error("Unable to calculate net run rate: {}", errorMessage);
+            throw new InvalidRequestException(errorMessage);
         }
-        return (runsScored / oversPlayed) - (runsConceded / oversBowled);
+
+        long numerator = ApplicationConstants.NO_OF_BALLS_PER_OVER * (runsScored * ballsBowled - runsConceded * ballsFaced);
+        long denominator = ballsFaced * ballsBowled;
+        return (double) numerator / denominator;
     }
 }
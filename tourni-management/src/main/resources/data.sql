@@ -129,7 +129,7 @@ VALUES
 
 
 -- Team Stats
-INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_overs_played, total_runs_conceded, total_overs_bowled, record_created_date, record_created_by, is_active)
+INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_balls_faced, total_runs_conceded, total_balls_bowled, record_created_date, record_created_by, is_active)
 VALUES
   (301, 1101, 101, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
   (302, 1102, 101, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
@@ -142,7 +142,7 @@ VALUES
   (309, 1109, 101, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
   (310, 1110, 101, 0, 0, 0, 0, CURRENT_DATE(), "admin", true);
 
-INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_overs_played, total_runs_conceded, total_overs_bowled, record_created_date, record_created_by, is_active)
+INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_balls_faced, total_runs_conceded, total_balls_bowled, record_created_date, record_created_by, is_active)
 VALUES
   (321, 1101, 103, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
   (322, 1102, 103, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
@@ -155,7 +155,7 @@ VALUES
   (329, 1109, 103, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
   (330, 1110, 103, 0, 0, 0, 0, CURRENT_DATE(), "admin", true);
 
-INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_overs_played, total_runs_conceded, total_overs_bowled, record_created_date, record_created_by, is_active)
+INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_balls_faced, total_runs_conceded, total_balls_bowled, record_created_date, record_created_by, is_active)
 VALUES
   (311, 1111, 102, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
   (312, 1112, 102, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
@@ -168,7 +168,7 @@ VALUES
   (319, 1119, 102, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
   (320, 1120, 102, 0, 0, 0, 0, CURRENT_DATE(), "admin", true);
 
-INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_overs_played, total_runs_conceded, total_overs_bowled, record_created_date, record_created_by, is_active)
+INSERT IGNORE INTO team_stats(team_stats_id, team_id, tournament_id, total_runs_scored, total_balls_faced, total_runs_conceded, total_balls_bowled, record_created_date, record_created_by, is_active)
 VALUES
   (331, 1111, 104, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
   (332, 1112, 104, 0, 0, 0, 0, CURRENT_DATE(), "admin", true),
@@ -0,0 +1,7 @@
+-- One result per match number within a tournament, makes match result ingestion idempotent
+
+-- Fails while duplicates exist, list them with:
+-- SELECT tournament_id, match_number, COUNT(*) FROM match_result
+-- GROUP BY tournament_id, match_number HAVING COUNT(*) > 1;
+ALTER TABLE match_result
+ADD CONSTRAINT uk_match_result_tournament_match_number UNIQUE (tournament_id, match_number);
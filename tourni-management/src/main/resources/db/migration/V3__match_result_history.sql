@@ -0,0 +1,29 @@
+-- Previous state of corrected and deleted match results
+
+CREATE TABLE match_result_history (
+    history_id BIGINT NOT NULL AUTO_INCREMENT,
+    match_id BIGINT NOT NULL,
+    match_number BIGINT NOT NULL,
+    tournament_id BIGINT NOT NULL,
+    change_type VARCHAR(255) NOT NULL,
+    winner_team_id BIGINT NOT NULL,
+    loser_team_id BIGINT NOT NULL,
+    team_one_id BIGINT NOT NULL,
+    team_two_id BIGINT NOT NULL,
+    team_one_score INT NOT NULL,
+    team_two_score INT NOT NULL,
+    team_one_wickets INT NOT NULL,
+    team_two_wickets INT NOT NULL,
+    team_one_overs_played DOUBLE NOT NULL,
+    team_two_overs_played DOUBLE NOT NULL,
+    match_result_status VARCHAR(255) NOT NULL,
+    previous_version BIGINT,
+    record_created_date DATETIME(6) NOT NULL,
+    record_updated_date DATETIME(6),
+    record_created_by VARCHAR(255) NOT NULL,
+    record_updated_by VARCHAR(255),
+    is_active BIT NOT NULL,
+    version BIGINT,
+    PRIMARY KEY (history_id),
+    INDEX idx_match_result_history_match (tournament_id, match_number)
+);
@@ -0,0 +1,18 @@
+-- Match result changes written with the change itself, published in event_id order by OutboxRelay
+
+CREATE TABLE match_result_outbox (
+    event_id BIGINT NOT NULL AUTO_INCREMENT,
+    tournament_id BIGINT NOT NULL,
+    match_number BIGINT,
+    event_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    published_date DATETIME(6),
+    record_created_date DATETIME(6) NOT NULL,
+    record_updated_date DATETIME(6),
+    record_created_by VARCHAR(255) NOT NULL,
+    record_updated_by VARCHAR(255),
+    is_active BIT NOT NULL,
+    version BIGINT,
+    PRIMARY KEY (event_id),
+    INDEX idx_match_result_outbox_unpublished (published_date, event_id)
+);
@@ -0,0 +1,13 @@
+-- Team stats count overs in balls, 19.4 overs (stored as 19.666...) become 118 balls
+
+ALTER TABLE team_stats
+    ADD COLUMN total_balls_faced INT NOT NULL DEFAULT 0,
+    ADD COLUMN total_balls_bowled INT NOT NULL DEFAULT 0;
+
+UPDATE team_stats
+SET total_balls_faced = ROUND(total_overs_played * 6),
+    total_balls_bowled = ROUND(total_overs_bowled * 6);
+
+ALTER TABLE team_stats
+    DROP COLUMN total_overs_played,
+    DROP COLUMN total_overs_bowled;
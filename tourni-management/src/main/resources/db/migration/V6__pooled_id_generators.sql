@@ -0,0 +1,20 @@
+-- Pooled ids for match_result, points_table, team_stats and team_to_tournament_mapping, see IdGenerators.
+-- A stored value v hands out ids v - 49 .. v, so every row starts 50 above the current maximum id.
+
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'match_result', GREATEST(COALESCE(MAX(match_id), 0) + 51, 1000) FROM match_result;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'points_table', GREATEST(COALESCE(MAX(points_table_id), 0) + 51, 1000) FROM points_table;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'team_stats', GREATEST(COALESCE(MAX(team_stats_id), 0) + 51, 1000) FROM team_stats;
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'team_to_tournament_mapping', GREATEST(COALESCE(MAX(mapping_id), 0) + 51, 1000) FROM team_to_tournament_mapping;
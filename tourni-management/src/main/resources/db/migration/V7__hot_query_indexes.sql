@@ -0,0 +1,15 @@
+-- Indexes for the per tournament lookups of points_table, team_stats and team_to_tournament_mapping,
+-- checked at startup by QueryPlanVerifier (tourni.query-plans.verify=true)
+
+-- One points and one stats row per team in a tournament. Fails while duplicates exist, list them with:
+-- SELECT tournament_id, team_id, COUNT(*) FROM points_table GROUP BY tournament_id, team_id HAVING COUNT(*) > 1;
+-- SELECT tournament_id, team_id, COUNT(*) FROM team_stats GROUP BY tournament_id, team_id HAVING COUNT(*) > 1;
+ALTER TABLE points_table
+ADD CONSTRAINT uk_points_table_tournament_team UNIQUE (tournament_id, team_id);
+
+ALTER TABLE team_stats
+ADD CONSTRAINT uk_team_stats_tournament_team UNIQUE (tournament_id, team_id);
+
+-- Covering index for the team ids of a tournament, the existing unique key (team_id, tournament_id) cannot serve it
+CREATE INDEX idx_team_to_tournament_mapping_tournament
+ON team_to_tournament_mapping (tournament_id, is_active, team_id);
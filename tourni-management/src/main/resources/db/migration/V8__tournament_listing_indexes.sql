@@ -0,0 +1,8 @@
+-- Filtered tournament listing, read page by page after the last tournament_id (keyset pagination).
+-- InnoDB secondary indexes end with the primary key, so both indexes return a filter's rows in tournament_id order.
+
+CREATE INDEX idx_tournament_type_year
+ON tournament (tournament_type_id, tournament_year);
+
+CREATE INDEX idx_tournament_year
+ON tournament (tournament_year);
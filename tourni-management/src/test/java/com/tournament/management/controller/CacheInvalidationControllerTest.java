@@ -0,0 +1,58 @@
+package com.tournament.management.controller;
+
+import com.tournament.management.cache.invalidation.CacheInvalidationMessage;
+import com.tournament.management.cache.invalidation.DiscoveryCacheInvalidationTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class CacheInvalidationControllerTest {
+
+    private final DiscoveryCacheInvalidationTransport transport =
+            new DiscoveryCacheInvalidationTransport(mock(DiscoveryClient.class), "tourni-management", "s3cret");
+
+    private final CacheInvalidationController cacheInvalidationController = new CacheInvalidationController(transport);
+
+    private final List<CacheInvalidationMessage> received = new ArrayList<>();
+
+    @AfterEach
+    void shutDown() {
+        transport.destroy();
+    }
+
+    @Test
+    void acceptsMessagesCarryingTheSharedSecret() {
+        transport.subscribe(received::add);
+
+        assertThat(cacheInvalidationController.receiveCacheInvalidation("s3cret", message()).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(received).hasSize(1);
+    }
+
+    @Test
+    void refusesMessagesWithoutTheSharedSecret() {
+        transport.subscribe(received::add);
+
+        assertThat(cacheInvalidationController.receiveCacheInvalidation(null, message()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(cacheInvalidationController.receiveCacheInvalidation("guess", message()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    void failsStartupWithoutASharedSecret() {
+        assertThatThrownBy(() -> new DiscoveryCacheInvalidationTransport(mock(DiscoveryClient.class), "tourni-management", ""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shared-secret");
+    }
+
+    private static CacheInvalidationMessage message() {
+        return new CacheInvalidationMessage("other-instance", "pointsTableByTournamentId", 7L, System.currentTimeMillis());
+    }
+}
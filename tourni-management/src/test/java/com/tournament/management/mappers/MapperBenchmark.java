@@ -0,0 +1,59 @@
+package com.tournament.management.mappers;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.utils.ApplicationConstants.MatchResultStatus;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request to entity mapping of the generated mapper against the ModelMapper mapping it replaced.
+ * Not run by the build, start it from tourni-management with
+ *
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/test.classpath) com.tournament.management.mappers.MapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final TournamentManagementMappers mappers = new TournamentManagementMappersImpl();
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final AddMatchResultRequest request = new AddMatchResultRequest(4, 1L, 21L, 22L, 21L, 22L,
+            180, 150, 6, 10, 20.0, 18.3, MatchResultStatus.COMPLETED);
+
+    @Benchmark
+    public MatchResult mapStruct() {
+        return mappers.mapMatchResultRequestDTOToMatchResult(request);
+    }
+
+    @Benchmark
+    public MatchResult modelMapper() {
+        MatchResult matchResult = modelMapper.map(request, MatchResult.class);
+        matchResult.setActive(true);
+        return matchResult;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
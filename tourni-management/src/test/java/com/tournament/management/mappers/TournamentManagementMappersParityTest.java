@@ -0,0 +1,201 @@
+package com.tournament.management.mappers;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.dto.PointsTableDTO;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.MatchResultHistory;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.utils.ApplicationConstants.MatchResultChangeType;
+import com.tournament.management.utils.ApplicationConstants.MatchResultStatus;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the generated mappers with the ModelMapper based mappings they replaced.
+ *
+ * The one intended difference: ModelMapper matched the request's tournamentId into matchId, so a new result carried
+ * an id before it was persisted. The generated mapper leaves matchId to the id generator.
+ */
+class TournamentManagementMappersParityTest {
+
+    private final TournamentManagementMappers mappers = new TournamentManagementMappersImpl();
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    @Test
+    void mapsCompletedMatchResultRequestLikeModelMapper() {
+        AddMatchResultRequest request = completedRequest();
+
+        MatchResult matchResult = mappers.mapMatchResultRequestDTOToMatchResult(request);
+
+        assertThat(matchResult)
+                .usingRecursiveComparison()
+                .ignoringFields("matchId")
+                .isEqualTo(legacyMapMatchResultRequest(request));
+        assertThat(matchResult.getMatchId()).isNull();
+        assertThat(matchResult.getMatchResultStatus()).isEqualTo("COMPLETED");
+        assertThat(matchResult.isActive()).isTrue();
+    }
+
+    @Test
+    void mapsNoResultRequestWithoutScoresLikeModelMapper() {
+        AddMatchResultRequest request = noResultRequest();
+
+        MatchResult matchResult = mappers.mapMatchResultRequestDTOToMatchResult(request);
+
+        assertThat(matchResult)
+                .usingRecursiveComparison()
+                .ignoringFields("matchId")
+                .isEqualTo(legacyMapMatchResultRequest(request));
+        assertThat(matchResult.getMatchId()).isNull();
+        assertThat(matchResult.getWinnerTeamId()).isZero();
+        assertThat(matchResult.getTeamOneScore()).isZero();
+        assertThat(matchResult.getTeamTwoOversPlayed()).isZero();
+    }
+
+    @Test
+    void correctionWithNullScoresResetsThemLikeModelMapper() {
+        AddMatchResultRequest correctedRequest = noResultRequest();
+
+        MatchResult matchResult = recordedMatchResult();
+        mappers.updateMatchResultFromRequest(matchResult, correctedRequest);
+
+        MatchResult expected = recordedMatchResult();
+        legacyUpdateMatchResultFromRequest(expected, correctedRequest);
+
+        assertThat(matchResult).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(matchResult.getMatchId()).isEqualTo(7L);
+        assertThat(matchResult.getVersion()).isEqualTo(3L);
+        assertThat(matchResult.getRecordCreatedBy()).isEqualTo("admin");
+    }
+
+    @Test
+    void correctionWithNullStatusClearsItLikeModelMapper() {
+        AddMatchResultRequest correctedRequest = completedRequest();
+        correctedRequest.setMatchResultStatus(null);
+
+        MatchResult matchResult = recordedMatchResult();
+        mappers.updateMatchResultFromRequest(matchResult, correctedRequest);
+
+        MatchResult expected = recordedMatchResult();
+        legacyUpdateMatchResultFromRequest(expected, correctedRequest);
+
+        assertThat(matchResult).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(matchResult.getMatchResultStatus()).isNull();
+    }
+
+    @Test
+    void mapsMatchResultToHistoryLikeBefore() {
+        MatchResult matchResult = recordedMatchResult();
+
+        MatchResultHistory matchResultHistory = mappers.mapMatchResultToMatchResultHistory(matchResult, MatchResultChangeType.UPDATED);
+
+        assertThat(matchResultHistory)
+                .usingRecursiveComparison()
+                .isEqualTo(legacyMapMatchResultToHistory(matchResult, MatchResultChangeType.UPDATED));
+        assertThat(matchResultHistory.getPreviousVersion()).isEqualTo(3L);
+        assertThat(matchResultHistory.getRecordCreatedBy()).isNull();
+    }
+
+    @Test
+    void mapsPointsTableLikeModelMapper() {
+        PointsTable pointsTable = new PointsTable();
+        pointsTable.setPointsTableId(11L);
+        pointsTable.setTournamentId(1L);
+        pointsTable.setTeamId(21L);
+        pointsTable.setPlayed(5);
+        pointsTable.setWon(3);
+        pointsTable.setLost(1);
+        pointsTable.setTied(0);
+        pointsTable.setNoResult(1);
+        pointsTable.setPoints(7);
+        pointsTable.setNetMatchRate(0.512);
+
+        PointsTableDTO expected = modelMapper.map(pointsTable, PointsTableDTO.class);
+        expected.setTeamName("Chennai");
+
+        assertThat(mappers.mapPointsTableToPointsTableDTO(pointsTable, "Chennai"))
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+    }
+
+    /*
+     * The mappings as implemented before the switch to MapStruct
+     */
+    private MatchResult legacyMapMatchResultRequest(AddMatchResultRequest request) {
+        MatchResult matchResult = modelMapper.map(request, MatchResult.class);
+        matchResult.setActive(true);
+        return matchResult;
+    }
+
+    private void legacyUpdateMatchResultFromRequest(MatchResult matchResult, AddMatchResultRequest request) {
+        MatchResult correctedMatchResult = legacyMapMatchResultRequest(request);
+        matchResult.setWinnerTeamId(correctedMatchResult.getWinnerTeamId());
+        matchResult.setLoserTeamId(correctedMatchResult.getLoserTeamId());
+        matchResult.setTeamOneId(correctedMatchResult.getTeamOneId());
+        matchResult.setTeamTwoId(correctedMatchResult.getTeamTwoId());
+        matchResult.setTeamOneScore(correctedMatchResult.getTeamOneScore());
+        matchResult.setTeamTwoScore(correctedMatchResult.getTeamTwoScore());
+        matchResult.setTeamOneWickets(correctedMatchResult.getTeamOneWickets());
+        matchResult.setTeamTwoWickets(correctedMatchResult.getTeamTwoWickets());
+        matchResult.setTeamOneOversPlayed(correctedMatchResult.getTeamOneOversPlayed());
+        matchResult.setTeamTwoOversPlayed(correctedMatchResult.getTeamTwoOversPlayed());
+        matchResult.setMatchResultStatus(correctedMatchResult.getMatchResultStatus());
+    }
+
+    private static MatchResultHistory legacyMapMatchResultToHistory(MatchResult matchResult, MatchResultChangeType changeType) {
+        MatchResultHistory matchResultHistory = new MatchResultHistory();
+        matchResultHistory.setMatchId(matchResult.getMatchId());
+        matchResultHistory.setMatchNumber(matchResult.getMatchNumber());
+        matchResultHistory.setTournamentId(matchResult.getTournamentId());
+        matchResultHistory.setChangeType(changeType.name());
+        matchResultHistory.setWinnerTeamId(matchResult.getWinnerTeamId());
+        matchResultHistory.setLoserTeamId(matchResult.getLoserTeamId());
+        matchResultHistory.setTeamOneId(matchResult.getTeamOneId());
+        matchResultHistory.setTeamTwoId(matchResult.getTeamTwoId());
+        matchResultHistory.setTeamOneScore(matchResult.getTeamOneScore());
+        matchResultHistory.setTeamTwoScore(matchResult.getTeamTwoScore());
+        matchResultHistory.setTeamOneWickets(matchResult.getTeamOneWickets());
+        matchResultHistory.setTeamTwoWickets(matchResult.getTeamTwoWickets());
+        matchResultHistory.setTeamOneOversPlayed(matchResult.getTeamOneOversPlayed());
+        matchResultHistory.setTeamTwoOversPlayed(matchResult.getTeamTwoOversPlayed());
+        matchResultHistory.setMatchResultStatus(matchResult.getMatchResultStatus());
+        matchResultHistory.setPreviousVersion(matchResult.getVersion());
+        matchResultHistory.setActive(true);
+        return matchResultHistory;
+    }
+
+    private static AddMatchResultRequest completedRequest() {
+        return new AddMatchResultRequest(4, 1L, 21L, 22L, 21L, 22L,
+                180, 150, 6, 10, 20.0, 18.3, MatchResultStatus.COMPLETED);
+    }
+
+    private static AddMatchResultRequest noResultRequest() {
+        return new AddMatchResultRequest(4, 1L, null, null, 21L, 22L,
+                null, null, null, null, null, null, MatchResultStatus.NO_RESULT);
+    }
+
+    private static MatchResult recordedMatchResult() {
+        MatchResult matchResult = new MatchResult();
+        matchResult.setMatchId(7L);
+        matchResult.setMatchNumber(4);
+        matchResult.setTournamentId(1L);
+        matchResult.setWinnerTeamId(21L);
+        matchResult.setLoserTeamId(22L);
+        matchResult.setTeamOneId(21L);
+        matchResult.setTeamTwoId(22L);
+        matchResult.setTeamOneScore(180);
+        matchResult.setTeamTwoScore(150);
+        matchResult.setTeamOneWickets(6);
+        matchResult.setTeamTwoWickets(10);
+        matchResult.setTeamOneOversPlayed(20.0);
+        matchResult.setTeamTwoOversPlayed(18.3);
+        matchResult.setMatchResultStatus(MatchResultStatus.COMPLETED.name());
+        matchResult.setRecordCreatedBy("admin");
+        matchResult.setVersion(3L);
+        matchResult.setActive(true);
+        return matchResult;
+    }
+}
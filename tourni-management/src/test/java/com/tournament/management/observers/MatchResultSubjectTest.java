@@ -0,0 +1,165 @@
+package com.tournament.management.observers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.tournament.management.observers.MatchResultState.POINTS_TABLE;
+import static com.tournament.management.observers.MatchResultState.TEAM_STATS_TOTALS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchResultSubjectTest {
+
+    private final List<String> notified = new CopyOnWriteArrayList<>();
+
+    private final MatchResultSubject matchResultSubject = new MatchResultSubject(new SimpleMeterRegistry());
+
+    @AfterEach
+    void shutDown() {
+        matchResultSubject.destroy();
+    }
+
+    @Test
+    void runsProvidersBeforeTheObserversThatRequireTheirState() {
+        matchResultSubject.addObserver(new StubObserver("pointsTable", Set.of(TEAM_STATS_TOTALS), Set.of(POINTS_TABLE)));
+        matchResultSubject.addObserver(new StubObserver("teamStats", Set.of(), Set.of(TEAM_STATS_TOTALS)));
+
+        matchResultSubject.notifyObservers(null);
+
+        assertThat(notified).containsExactly("teamStats", "pointsTable");
+        assertThat(matchResultSubject.getStages()).hasSize(2);
+    }
+
+    @Test
+    void keepsRegistrationOrderForIndependentObservers() {
+        matchResultSubject.addObserver(new StubObserver("first", Set.of(), Set.of()));
+        matchResultSubject.addObserver(new StubObserver("second", Set.of(), Set.of()));
+        matchResultSubject.addObserver(new StubObserver("third", Set.of(), Set.of()));
+
+        matchResultSubject.notifyObservers(null);
+
+        assertThat(notified).containsExactly("first", "second", "third");
+        assertThat(matchResultSubject.getStages()).hasSize(1);
+    }
+
+    @Test
+    void rejectsAnObserverThatClosesACycle() {
+        matchResultSubject.addObserver(new StubObserver("teamStats", Set.of(POINTS_TABLE), Set.of(TEAM_STATS_TOTALS)));
+
+        assertThatThrownBy(() -> matchResultSubject.addObserver(
+                new StubObserver("pointsTable", Set.of(TEAM_STATS_TOTALS), Set.of(POINTS_TABLE))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cyclic dependencies");
+
+        // the rejected observer is not registered
+        assertThat(matchResultSubject.getStages()).flatMap(stage -> stage).hasSize(1);
+    }
+
+    @Test
+    void failsWhenNoObserverProvidesARequiredState() {
+        matchResultSubject.addObserver(new StubObserver("pointsTable", Set.of(TEAM_STATS_TOTALS), Set.of(POINTS_TABLE)));
+
+        assertThatThrownBy(() -> matchResultSubject.notifyObservers(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("TEAM_STATS_TOTALS");
+        assertThat(notified).isEmpty();
+    }
+
+    @Test
+    void runsNonTransactionalObserversOfAStageConcurrently() {
+        // both wait for each other, so they only finish when they run at the same time
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        matchResultSubject.addObserver(new LatchObserver("transactional", true, bothStarted));
+        matchResultSubject.addObserver(new LatchObserver("concurrent", false, bothStarted));
+        matchResultSubject.addObserver(new StubObserver("nextStage", Set.of(POINTS_TABLE), Set.of()));
+
+        matchResultSubject.notifyObservers(null);
+
+        assertThat(notified).containsExactlyInAnyOrder("transactional", "concurrent", "nextStage");
+        assertThat(notified.get(2)).isEqualTo("nextStage");
+    }
+
+    @Test
+    void rethrowsTheFailureOfAConcurrentObserver() {
+        matchResultSubject.addObserver(new StubObserver("concurrent", Set.of(), Set.of()) {
+            @Override
+            public void update(MatchResultContext matchResultContext) {
+                throw new IllegalArgumentException("concurrent observer failed");
+            }
+
+            @Override
+            public boolean isTransactional() {
+                return false;
+            }
+        });
+
+        assertThatThrownBy(() -> matchResultSubject.notifyObservers(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("concurrent observer failed");
+    }
+
+    private class StubObserver implements MatchResultObserver {
+
+        private final String name;
+
+        private final Set<MatchResultState> requires;
+
+        private final Set<MatchResultState> provides;
+
+        StubObserver(String name, Set<MatchResultState> requires, Set<MatchResultState> provides) {
+            this.name = name;
+            this.requires = requires;
+            this.provides = provides;
+        }
+
+        @Override
+        public void update(MatchResultContext matchResultContext) throws Exception {
+            notified.add(name);
+        }
+
+        @Override
+        public Set<MatchResultState> requires() {
+            return requires;
+        }
+
+        @Override
+        public Set<MatchResultState> provides() {
+            return provides;
+        }
+    }
+
+    private class LatchObserver extends StubObserver {
+
+        private final boolean transactional;
+
+        private final CountDownLatch bothStarted;
+
+        LatchObserver(String name, boolean transactional, CountDownLatch bothStarted) {
+            super(name, Collections.emptySet(), Set.of(POINTS_TABLE));
+            this.transactional = transactional;
+            this.bothStarted = bothStarted;
+        }
+
+        @Override
+        public void update(MatchResultContext matchResultContext) throws Exception {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("observers of a stage did not run concurrently");
+            }
+            super.update(matchResultContext);
+        }
+
+        @Override
+        public boolean isTransactional() {
+            return transactional;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tournament.management.repository;
+
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.entity.app.TeamToTournamentMapping;
+import com.tournament.management.entity.app.Tournament;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks how EXPLAIN rows are judged, the plans themselves need MySQL with the migrations applied
+ */
+class QueryPlanVerifierTest {
+
+    // every index the verifier expects, offered as candidates so each lookup finds its own
+    private static final String ALL_INDEXES = String.join(",", PointsTable.UNIQUE_TOURNAMENT_TEAM, TeamStats.UNIQUE_TOURNAMENT_TEAM,
+            TeamToTournamentMapping.TOURNAMENT_INDEX, Tournament.TYPE_YEAR_INDEX, Tournament.YEAR_INDEX, MatchResult.UNIQUE_MATCH_NUMBER);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+    private final QueryPlanVerifier queryPlanVerifier = new QueryPlanVerifier(jdbcTemplate);
+
+    @Test
+    void passesWhenEveryLookupCanUseItsIndex() {
+        when(jdbcTemplate.queryForList(anyString())).thenReturn(List.of(planRow(null, ALL_INDEXES)));
+
+        assertThatCode(queryPlanVerifier::verify).doesNotThrowAnyException();
+    }
+
+    @Test
+    void failsWhenALookupScansTheTable() {
+        when(jdbcTemplate.queryForList(anyString())).thenReturn(List.of(planRow(null, ALL_INDEXES)));
+        when(jdbcTemplate.queryForList(startsWith("EXPLAIN SELECT * FROM points_table WHERE tournament_id")))
+                .thenReturn(List.of(planRow(null, null)));
+
+        assertThatThrownBy(queryPlanVerifier::verify)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("PointsTableRepository.findByTournamentId");
+    }
+
+    @Test
+    void failsWhenALookupCannotBeExplained() {
+        when(jdbcTemplate.queryForList(anyString())).thenThrow(new IllegalStateException("Table 'points_table' doesn't exist"));
+
+        assertThatThrownBy(queryPlanVerifier::verify).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void acceptsTheIndexChosenAsKey() {
+        when(jdbcTemplate.queryForList(anyString())).thenReturn(List.of(planRow(null, ALL_INDEXES)));
+        when(jdbcTemplate.queryForList(startsWith("EXPLAIN SELECT * FROM points_table WHERE tournament_id")))
+                .thenReturn(List.of(planRow(PointsTable.UNIQUE_TOURNAMENT_TEAM, null)));
+
+        assertThatCode(queryPlanVerifier::verify).doesNotThrowAnyException();
+    }
+
+    private static Map<String, Object> planRow(String key, String possibleKeys) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("key", key);
+        row.put("possible_keys", possibleKeys);
+        return row;
+    }
+}
@@ -0,0 +1,119 @@
+package com.tournament.management.service;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.dto.BulkMatchResultItemStatus;
+import com.tournament.management.dto.BulkMatchResultResponse;
+import com.tournament.management.entity.app.MatchResult;
+import com.tournament.management.entity.app.PointsTable;
+import com.tournament.management.entity.app.Tournament;
+import com.tournament.management.repository.PointsTableRepository;
+import com.tournament.management.repository.TournamentRepository;
+import com.tournament.management.standings.StandingsEngine;
+import com.tournament.management.utils.ApplicationConstants.MatchResultIngestionStatus;
+import com.tournament.management.utils.ApplicationConstants.MatchResultStatus;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchResultBulkIngestionServiceTest {
+
+    private static final long TOURNAMENT_ID = 7L;
+
+    private final TournamentRepository tournamentRepository = mock(TournamentRepository.class);
+    private final PointsTableRepository pointsTableRepository = mock(PointsTableRepository.class);
+    private final MatchResultBatchWriter matchResultBatchWriter = mock(MatchResultBatchWriter.class);
+    private final MatchResultWriteScheduler matchResultWriteScheduler = mock(MatchResultWriteScheduler.class);
+    private final RecordedMatchNumbers recordedMatchNumbers = mock(RecordedMatchNumbers.class);
+    private final StandingsEngine standingsEngine = mock(StandingsEngine.class);
+
+    private final MatchResultBulkIngestionService matchResultBulkIngestionService = new MatchResultBulkIngestionService(
+            mock(Validator.class), tournamentRepository, pointsTableRepository, matchResultBatchWriter, matchResultWriteScheduler,
+            recordedMatchNumbers, standingsEngine, mock(ApplicationEventPublisher.class), 100);
+
+    private final Tournament tournament = new Tournament();
+
+    @BeforeEach
+    void setUp() {
+        tournament.setTournamentId(TOURNAMENT_ID);
+        tournament.setMaximumOversPerMatch(20);
+        when(tournamentRepository.findAllById(any())).thenReturn(List.of(tournament));
+        when(pointsTableRepository.findByTournamentId(TOURNAMENT_ID)).thenReturn(Optional.of(List.of(pointsRow(1L), pointsRow(2L))));
+        when(matchResultWriteScheduler.execute(anyLong(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+    }
+
+    @Test
+    void reportsMatchesRecordedMeanwhileAsDuplicatesAndSavesTheRest() {
+        // match 2 is recorded by another request after the up-front check
+        when(recordedMatchNumbers.isRecorded(TOURNAMENT_ID, 1)).thenReturn(false);
+        when(recordedMatchNumbers.isRecorded(TOURNAMENT_ID, 2)).thenReturn(false, true);
+        doThrow(duplicateMatchNumber()).when(matchResultBatchWriter).write(eq(tournament), argThat(requests -> requests.size() == 2));
+
+        BulkMatchResultResponse response = matchResultBulkIngestionService.ingest(List.of(result(1), result(2)));
+
+        assertThat(response.getItems()).extracting(BulkMatchResultItemStatus::getStatus)
+                .containsExactly(MatchResultIngestionStatus.SAVED, MatchResultIngestionStatus.DUPLICATE);
+        assertThat(response.getSaved()).isEqualTo(1);
+        assertThat(response.getDuplicates()).isEqualTo(1);
+        verify(matchResultBatchWriter).write(eq(tournament), argThat(requests -> requests.size() == 1 && requests.get(0).getMatchNumber() == 1));
+        verify(recordedMatchNumbers).markRecorded(TOURNAMENT_ID, 1);
+        verify(recordedMatchNumbers, never()).markRecorded(TOURNAMENT_ID, 2);
+    }
+
+    @Test
+    void failsTheTournamentWhenNoMatchTurnsOutRecorded() {
+        when(recordedMatchNumbers.isRecorded(anyLong(), anyLong())).thenReturn(false);
+        doThrow(duplicateMatchNumber()).when(matchResultBatchWriter).write(eq(tournament), anyList());
+
+        BulkMatchResultResponse response = matchResultBulkIngestionService.ingest(List.of(result(1), result(2)));
+
+        assertThat(response.getFailed()).isEqualTo(2);
+        verify(standingsEngine, never()).applyMatchResult(any());
+    }
+
+    private static DataIntegrityViolationException duplicateMatchNumber() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLIntegrityConstraintViolationException("Duplicate entry '7-2' for key 'match_result." + MatchResult.UNIQUE_MATCH_NUMBER + "'"));
+    }
+
+    private static PointsTable pointsRow(long teamId) {
+        PointsTable pointsTable = new PointsTable();
+        pointsTable.setTeamId(teamId);
+        return pointsTable;
+    }
+
+    private static AddMatchResultRequest result(int matchNumber) {
+        AddMatchResultRequest matchResultRequest = new AddMatchResultRequest();
+        matchResultRequest.setMatchNumber(matchNumber);
+        matchResultRequest.setTournamentId(TOURNAMENT_ID);
+        matchResultRequest.setTeamOneId(1L);
+        matchResultRequest.setTeamTwoId(2L);
+        matchResultRequest.setWinnerTeamId(1L);
+        matchResultRequest.setTeamOneScore(160);
+        matchResultRequest.setTeamTwoScore(140);
+        matchResultRequest.setTeamOneWickets(5);
+        matchResultRequest.setTeamTwoWickets(8);
+        matchResultRequest.setTeamOneOversPlayed(20.0);
+        matchResultRequest.setTeamTwoOversPlayed(20.0);
+        matchResultRequest.setMatchResultStatus(MatchResultStatus.COMPLETED);
+        return matchResultRequest;
+    }
+}
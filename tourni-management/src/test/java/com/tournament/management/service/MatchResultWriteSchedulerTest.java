@@ -0,0 +1,63 @@
+package com.tournament.management.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class MatchResultWriteSchedulerTest {
+
+    private final MatchResultWriteScheduler matchResultWriteScheduler = new MatchResultWriteScheduler(4, 3,
+            Duration.ofMillis(1), Duration.ofMillis(2), mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+
+    @AfterEach
+    void shutDown() {
+        matchResultWriteScheduler.shutdown();
+    }
+
+    @Test
+    void runsANestedWriteOfTheSameStripeInline() {
+        long otherTournamentOnStripe = LongStream.range(2, 1000)
+                .filter(tournamentId -> matchResultWriteScheduler.stripeOf(tournamentId) == matchResultWriteScheduler.stripeOf(1))
+                .findFirst().orElseThrow();
+
+        String result = matchResultWriteScheduler.execute(1, () -> {
+            String outerThread = Thread.currentThread().getName();
+            return matchResultWriteScheduler.execute(otherTournamentOnStripe, () -> Thread.currentThread().getName().equals(outerThread) ? "inline" : "queued");
+        });
+
+        assertThat(result).isEqualTo("inline");
+    }
+
+    @Test
+    void rejectsANestedWriteOfAnotherStripe() {
+        long tournamentOnOtherStripe = LongStream.range(2, 1000)
+                .filter(tournamentId -> matchResultWriteScheduler.stripeOf(tournamentId) != matchResultWriteScheduler.stripeOf(1))
+                .findFirst().orElseThrow();
+
+        assertThatThrownBy(() -> matchResultWriteScheduler.execute(1, () -> matchResultWriteScheduler.execute(tournamentOnOtherStripe, () -> null)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("cannot be nested");
+    }
+
+    @Test
+    void retriesConcurrencyFailuresUpToMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> matchResultWriteScheduler.execute(1, () -> {
+            attempts.incrementAndGet();
+            throw new PessimisticLockingFailureException("Deadlock found when trying to get lock");
+        })).isInstanceOf(PessimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(3);
+    }
+}
@@ -0,0 +1,143 @@
+package com.tournament.management.standings;
+
+import com.tournament.management.dto.AddMatchResultRequest;
+import com.tournament.management.entity.app.TeamStats;
+import com.tournament.management.utils.ApplicationConstants.MatchResultStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchResultRulesTest {
+
+    private static final long TEAM_ONE = 1L;
+
+    private static final long TEAM_TWO = 2L;
+
+    private static final int MAXIMUM_OVERS = 20;
+
+    @Test
+    void countsACompletedResultForBothTeams() {
+        TeamResultDelta[] deltas = MatchResultRules.computeDeltas(result(MatchResultStatus.COMPLETED, TEAM_ONE, 10), MAXIMUM_OVERS);
+
+        TeamResultDelta winner = deltas[0];
+        assertThat(winner.getTeamId()).isEqualTo(TEAM_ONE);
+        assertThat(winner.getPlayed()).isEqualTo(1);
+        assertThat(winner.getWon()).isEqualTo(1);
+        assertThat(winner.getPoints()).isEqualTo(2);
+        assertThat(winner.getRunsScored()).isEqualTo(180);
+        assertThat(winner.getBallsFaced()).isEqualTo(120);
+        assertThat(winner.getRunsConceded()).isEqualTo(150);
+        // all out in 18.3 overs counts as the full 20
+        assertThat(winner.getBallsBowled()).isEqualTo(120);
+        assertThat(winner.isUpdatesNetRunRate()).isTrue();
+
+        TeamResultDelta loser = deltas[1];
+        assertThat(loser.getTeamId()).isEqualTo(TEAM_TWO);
+        assertThat(loser.getLost()).isEqualTo(1);
+        assertThat(loser.getPoints()).isZero();
+        assertThat(loser.getRunsScored()).isEqualTo(150);
+        assertThat(loser.getBallsFaced()).isEqualTo(120);
+    }
+
+    @Test
+    void countsBallsPlayedWhenNotAllOut() {
+        TeamResultDelta[] deltas = MatchResultRules.computeDeltas(result(MatchResultStatus.COMPLETED, TEAM_ONE, 9), MAXIMUM_OVERS);
+
+        assertThat(deltas[1].getBallsFaced()).isEqualTo(111);
+        assertThat(deltas[0].getBallsBowled()).isEqualTo(111);
+    }
+
+    @Test
+    void countsATieWithoutPoints() {
+        TeamResultDelta[] deltas = MatchResultRules.computeDeltas(result(MatchResultStatus.TIED, null, 10), MAXIMUM_OVERS);
+
+        for (TeamResultDelta delta : deltas) {
+            assertThat(delta.getTied()).isEqualTo(1);
+            assertThat(delta.getWon()).isZero();
+            assertThat(delta.getPoints()).isZero();
+            assertThat(delta.isUpdatesNetRunRate()).isTrue();
+        }
+    }
+
+    @Test
+    void leavesTeamStatsOutOfANoResult() {
+        AddMatchResultRequest noResult = result(MatchResultStatus.NO_RESULT, null, 0);
+        noResult.setTeamOneScore(null);
+        noResult.setTeamTwoScore(null);
+        noResult.setTeamOneOversPlayed(null);
+        noResult.setTeamTwoOversPlayed(null);
+
+        TeamResultDelta[] deltas = MatchResultRules.computeDeltas(noResult, MAXIMUM_OVERS);
+
+        for (TeamResultDelta delta : deltas) {
+            assertThat(delta.getPlayed()).isEqualTo(1);
+            assertThat(delta.getNoResult()).isEqualTo(1);
+            assertThat(delta.getRunsScored()).isZero();
+            assertThat(delta.getBallsFaced()).isZero();
+            assertThat(delta.isUpdatesNetRunRate()).isFalse();
+        }
+    }
+
+    @Test
+    void negatedDeltaTakesTheResultBackOut() {
+        TeamResultDelta delta = MatchResultRules.computeDeltas(result(MatchResultStatus.COMPLETED, TEAM_TWO, 10), MAXIMUM_OVERS)[1];
+
+        TeamResultDelta roundTrip = delta.plus(delta.negate());
+
+        assertThat(roundTrip).usingRecursiveComparison()
+                .isEqualTo(TeamResultDelta.builder().teamId(TEAM_TWO).updatesNetRunRate(true).build());
+        assertThat(delta.negate().negate()).usingRecursiveComparison().isEqualTo(delta);
+    }
+
+    @Test
+    void appliedAndReversedResultRestoresTeamStats() {
+        TeamStats teamStats = new TeamStats();
+        teamStats.setTotalRunsScored(300);
+        teamStats.setTotalBallsFaced(240);
+        teamStats.setTotalRunsConceded(280);
+        teamStats.setTotalBallsBowled(235);
+        double netRunRateBefore = MatchResultRules.netRunRateOf(teamStats);
+
+        TeamResultDelta delta = MatchResultRules.computeDeltas(result(MatchResultStatus.COMPLETED, TEAM_ONE, 9), MAXIMUM_OVERS)[0];
+        MatchResultRules.applyToTeamStats(teamStats, delta);
+        assertThat(MatchResultRules.netRunRateOf(teamStats)).isNotEqualTo(netRunRateBefore);
+
+        MatchResultRules.applyToTeamStats(teamStats, delta.negate());
+        assertThat(teamStats.getTotalRunsScored()).isEqualTo(300);
+        assertThat(teamStats.getTotalBallsFaced()).isEqualTo(240);
+        assertThat(teamStats.getTotalRunsConceded()).isEqualTo(280);
+        assertThat(teamStats.getTotalBallsBowled()).isEqualTo(235);
+        assertThat(MatchResultRules.netRunRateOf(teamStats)).isEqualTo(netRunRateBefore);
+    }
+
+    @Test
+    void netRunRateIsZeroUntilTheTeamHasFacedAndBowled() {
+        TeamStats teamStats = new TeamStats();
+        teamStats.setTotalRunsScored(0);
+        teamStats.setTotalBallsFaced(0);
+        teamStats.setTotalRunsConceded(45);
+        teamStats.setTotalBallsBowled(30);
+
+        assertThat(MatchResultRules.netRunRateOf(teamStats)).isZero();
+    }
+
+    /*
+     * Team one scores 180 in 20 overs, team two scores 150 in 18.3 overs losing the given number of wickets
+     */
+    private static AddMatchResultRequest result(MatchResultStatus matchResultStatus, Long winnerTeamId, int teamTwoWickets) {
+        AddMatchResultRequest matchResultRequest = new AddMatchResultRequest();
+        matchResultRequest.setMatchNumber(1);
+        matchResultRequest.setTournamentId(1L);
+        matchResultRequest.setTeamOneId(TEAM_ONE);
+        matchResultRequest.setTeamTwoId(TEAM_TWO);
+        matchResultRequest.setWinnerTeamId(winnerTeamId);
+        matchResultRequest.setTeamOneScore(180);
+        matchResultRequest.setTeamTwoScore(150);
+        matchResultRequest.setTeamOneWickets(4);
+        matchResultRequest.setTeamTwoWickets(teamTwoWickets);
+        matchResultRequest.setTeamOneOversPlayed(20.0);
+        matchResultRequest.setTeamTwoOversPlayed(18.3);
+        matchResultRequest.setMatchResultStatus(matchResultStatus);
+        return matchResultRequest;
+    }
+}
@@ -0,0 +1,47 @@
+package com.tournament.management.utils;
+
+import com.tournament.management.exceptions.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class NetRunRateCalculatorTest {
+
+    @Test
+    void countsOversNotationInBalls() {
+        assertThat(NetRunRateCalculator.toBalls(19.4)).isEqualTo(118);
+        assertThat(NetRunRateCalculator.toBalls(20.0)).isEqualTo(120);
+        assertThat(NetRunRateCalculator.toBalls(0.5)).isEqualTo(5);
+        assertThat(NetRunRateCalculator.toBalls(0)).isZero();
+    }
+
+    @Test
+    void rejectsOversWithSixOrMoreBalls() {
+        assertThatThrownBy(() -> NetRunRateCalculator.toBalls(19.6)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> NetRunRateCalculator.toBalls(19.45)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> NetRunRateCalculator.toBalls(-1)).isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void countsTheFullQuotaForAnAllOutTeam() {
+        assertThat(NetRunRateCalculator.ballsFaced(15.2, 20, ApplicationConstants.NO_OF_WICKETS_PER_MATCH)).isEqualTo(120);
+        assertThat(NetRunRateCalculator.ballsFaced(15.2, 20, 9)).isEqualTo(92);
+    }
+
+    @Test
+    void calculatesNetRunRateFromBalls() {
+        // 180 off 20 overs against 150 off 20 overs: 9.0 - 7.5
+        assertThat(NetRunRateCalculator.calculateNetRunRate(180, 120, 150, 120)).isEqualTo(1.5);
+
+        // 150 off 19.4 overs against 149 off 20 overs: 150 / (118 / 6) - 149 / 20
+        assertThat(NetRunRateCalculator.calculateNetRunRate(150, 118, 149, 120)).isCloseTo(0.17711864, within(1e-8));
+    }
+
+    @Test
+    void rejectsZeroBalls() {
+        assertThatThrownBy(() -> NetRunRateCalculator.calculateNetRunRate(10, 0, 10, 6)).isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> NetRunRateCalculator.calculateNetRunRate(10, 6, 10, 0)).isInstanceOf(InvalidRequestException.class);
+    }
+}